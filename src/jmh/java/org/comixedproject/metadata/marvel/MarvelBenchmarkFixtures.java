@@ -0,0 +1,92 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * <code>MarvelBenchmarkFixtures</code> creates the response bodies used by the benchmarks. Each
+ * record has the same shape as those returned by Marvel's online service, including the fields that
+ * aren't mapped.
+ *
+ * @author Darryl L. Pierce
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MarvelBenchmarkFixtures {
+  /** The number of records on a full page. */
+  public static final int PAGE_SIZE = 100;
+
+  private static final String RECORD_FORMAT =
+      "{\"id\":%1$d,\"digitalId\":0,\"title\":\"Spider-Man (1990) #%2$d\",\"issueNumber\":%2$d,"
+          + "\"variantDescription\":\"\",\"description\":\"Mister Fantastic saves Aunt May.\","
+          + "\"modified\":\"2021-11-18T00:10:33-0500\",\"isbn\":\"\",\"upc\":\"759606013211009811\","
+          + "\"format\":\"Comic\",\"pageCount\":32,"
+          + "\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\","
+          + "\"text\":\"Mister Fantastic saves Aunt May from Osborn's doomsday device.\"}],"
+          + "\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/%1$d\","
+          + "\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/%1$d\"},"
+          + "{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=%1$d\"}],"
+          + "\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\","
+          + "\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],"
+          + "\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-11-01T00:00:00-0500\"},"
+          + "{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],"
+          + "\"prices\":[{\"type\":\"printPrice\",\"price\":1.99}],"
+          + "\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/3/a0/%1$d\","
+          + "\"extension\":\"jpg\"},"
+          + "\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/3/a0/%1$d\","
+          + "\"extension\":\"jpg\"}],"
+          + "\"creators\":{\"available\":3,\"items\":["
+          + "{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\","
+          + "\"name\":\"Howard Mackie\",\"role\":\"writer\"},"
+          + "{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\","
+          + "\"name\":\"John Romita Jr.\",\"role\":\"penciler (cover)\"},"
+          + "{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/362\","
+          + "\"name\":\"Scott Hanna\",\"role\":\"inker\"}],\"returned\":3},"
+          + "\"characters\":{\"available\":1,\"items\":["
+          + "{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\","
+          + "\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},"
+          + "\"stories\":{\"available\":1,\"items\":["
+          + "{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/%1$d\","
+          + "\"name\":\"Spider-Man (1990) #%2$d\",\"type\":\"interiorStory\"}],\"returned\":1},"
+          + "\"events\":{\"available\":0,\"items\":[],\"returned\":0}}";
+
+  /**
+   * Creates a response body for a single page of a series listing.
+   *
+   * @param count the number of records
+   * @return the response body
+   */
+  public static String createAllIssuesResponse(final int count) {
+    final StringBuilder result =
+        new StringBuilder("{\"code\":200,\"status\":\"Ok\",\"copyright\":\"© 2024 MARVEL\",")
+            .append("\"etag\":\"5fea672058c29c0a58cc4761bb91b7edd03cbf60\",")
+            .append(
+                String.format(
+                    "\"data\":{\"offset\":0,\"limit\":%1$d,\"total\":%1$d,\"count\":%1$d,", count))
+            .append("\"results\":[");
+    for (int index = 0; index < count; index++) {
+      if (index > 0) {
+        result.append(',');
+      }
+      result.append(String.format(RECORD_FORMAT, 10000 + index, index + 1));
+    }
+    return result.append("]}}").toString();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.actions;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.MarvelBenchmarkFixtures;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * <code>MarvelGetAllIssuesActionBenchmark</code> measures a complete run of the action, from
+ * sending the request to returning the issue details, for a series listing served by a local
+ * server.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarvelGetAllIssuesActionBenchmark {
+  @Param({"false", "true"})
+  public boolean streaming;
+
+  private MockWebServer server;
+  private WebClient webClient;
+  private String baseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    final String body =
+        MarvelBenchmarkFixtures.createAllIssuesResponse(MarvelBenchmarkFixtures.PAGE_SIZE);
+    this.server = new MockWebServer();
+    this.server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            return new MockResponse().setBody(body).addHeader("Content-Type", "application/json");
+          }
+        });
+    this.server.start();
+    this.baseUrl = String.format("http://localhost:%d", this.server.getPort());
+    this.webClient = WebClient.builder().build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    this.server.shutdown();
+  }
+
+  @Benchmark
+  public List<IssueDetailsMetadata> getAllIssues() throws MetadataException {
+    final MarvelGetAllIssuesAction action = new MarvelGetAllIssuesAction();
+    action.setBaseUrl(this.baseUrl);
+    action.setPublicKey("public.key");
+    action.setPrivateKey("private.key");
+    action.setWebClient(this.webClient);
+    action.setStreaming(this.streaming);
+    action.setSeriesId("2069");
+    return action.execute();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.actions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.metadata.marvel.MarvelBenchmarkFixtures;
+import org.comixedproject.metadata.marvel.client.MarvelResultsDecoder;
+import org.comixedproject.metadata.marvel.models.MarvelGetAllIssuesQueryResponse;
+import org.comixedproject.metadata.marvel.models.MarvelSeriesIssueDetailRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <code>MarvelSeriesIssueMappingBenchmark</code> measures the cost of mapping every record on a
+ * full page of a series listing to its issue details. Only the mapping is measured, not the state
+ * the action keeps about the records it has seen.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarvelSeriesIssueMappingBenchmark {
+  private List<MarvelSeriesIssueDetailRecord> records;
+
+  @Setup
+  public void setUp() {
+    this.records =
+        MarvelResultsDecoder.getInstance()
+            .decode(
+                MarvelBenchmarkFixtures.createAllIssuesResponse(MarvelBenchmarkFixtures.PAGE_SIZE)
+                    .getBytes(StandardCharsets.UTF_8),
+                MarvelGetAllIssuesQueryResponse.class)
+            .getData()
+            .getResults();
+  }
+
+  @Benchmark
+  public void mapPage(final Blackhole blackhole) {
+    for (int index = 0; index < this.records.size(); index++) {
+      blackhole.consume(MarvelGetAllIssuesAction.doMapIssueDetails(this.records.get(index)));
+    }
+  }
+}
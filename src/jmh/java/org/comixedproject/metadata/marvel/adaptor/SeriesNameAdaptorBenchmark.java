@@ -0,0 +1,65 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.adaptor;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <code>SeriesNameAdaptorBenchmark</code> measures the cost of extracting the series details for
+ * every record on a full page of a series listing, where each record has the same series name, with
+ * and without the cache of known names.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeriesNameAdaptorBenchmark {
+  private static final int PAGE_SIZE = 100;
+  private static final String SERIES_NAME = "Amazing Spider-Man (2018 - 2022)";
+
+  private final SeriesNameAdaptor adaptor = SeriesNameAdaptor.getInstance();
+
+  @Benchmark
+  public void cachedPage(final Blackhole blackhole) {
+    for (int index = 0; index < PAGE_SIZE; index++) {
+      blackhole.consume(this.adaptor.execute(SERIES_NAME));
+    }
+  }
+
+  @Benchmark
+  public void uncachedPage(final Blackhole blackhole) {
+    for (int index = 0; index < PAGE_SIZE; index++) {
+      blackhole.consume(this.adaptor.doParse(SERIES_NAME));
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.auth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <code>MarvelAuthorizationAdaptorBenchmark</code> measures the cost of creating the authorization
+ * hash for a request, both through the adaptor and through a signer that is reused between
+ * requests.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarvelAuthorizationAdaptorBenchmark {
+  private static final String PUBLIC_KEY = "763df8a7c3c0f6d3bb7fcf088bbf6ee1";
+  private static final String PRIVATE_KEY = "0123456789abcdef0123456789abcdef01234567";
+
+  private final MarvelAuthorizationAdaptor adaptor = MarvelAuthorizationAdaptor.getInstance();
+  private final MarvelRequestSigner signer = new MarvelRequestSigner(PUBLIC_KEY, PRIVATE_KEY);
+  private long timestamp = System.currentTimeMillis();
+
+  @Benchmark
+  public String getHashForRequest() {
+    return this.adaptor.getHashForRequest(this.timestamp++, PUBLIC_KEY, PRIVATE_KEY);
+  }
+
+  @Benchmark
+  public String signerHash() {
+    return this.signer.getHash(this.timestamp++);
+  }
+
+  @Benchmark
+  public MarvelRequestSigner.Signature signerSign() {
+    return this.signer.sign();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.comixedproject.metadata.marvel.actions.MarvelGetIssueDetailsAction;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <code>MarvelBulkExecutorBenchmark</code> compares the throughput of bulk issue lookups run on
+ * platform threads with those run on virtual threads. Each lookup is served by a local server that
+ * delays its response to simulate the latency of Marvel's online service.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class MarvelBulkExecutorBenchmark {
+  private static final int LOOKUPS = 500;
+  private static final String RESPONSE_BODY =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":0,\"limit\":20,\"total\":1,\"count\":1,"
+          + "\"results\":[{\"id\":97135,\"title\":\"Scarlet Witch (2023) #2\",\"issueNumber\":2,"
+          + "\"description\":\"\",\"series\":{\"name\":\"Scarlet Witch (2023 - Present)\"},"
+          + "\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/97135\"}],"
+          + "\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"2023-02-01T00:00:00-0500\"},"
+          + "{\"type\":\"focDate\",\"date\":\"2022-12-19T00:00:00-0500\"}],"
+          + "\"creators\":{\"available\":1,\"items\":[{\"name\":\"Steve Orlando\",\"role\":\"writer\"}]},"
+          + "\"characters\":{\"available\":1,\"items\":[{\"name\":\"Scarlet Witch\"}]},"
+          + "\"stories\":{\"available\":1,\"items\":[{\"name\":\"story\",\"type\":\"interiorStory\"}]}}]}}";
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  @Param({"10", "250"})
+  public int maxInFlight;
+
+  @Param({"50"})
+  public int latency;
+
+  private MockWebServer server;
+  private MarvelWebClientPool webClientPool;
+  private MarvelBulkExecutor executor;
+  private String baseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    this.server = new MockWebServer();
+    this.server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            return new MockResponse()
+                .setBody(RESPONSE_BODY)
+                .addHeader("Content-Type", "application/json")
+                .setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+          }
+        });
+    this.server.start();
+    this.baseUrl = String.format("http://localhost:%d", this.server.getPort());
+    this.webClientPool =
+        new MarvelWebClientPool(
+            new MarvelWebClientSettings(
+                MarvelWebClientSettings.DEFAULT_CONNECT_TIMEOUT,
+                MarvelWebClientSettings.DEFAULT_READ_TIMEOUT,
+                this.maxInFlight));
+    this.executor = new MarvelBulkExecutor(this.virtualThreads, this.maxInFlight);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    this.executor.shutdown();
+    this.webClientPool.dispose();
+    this.server.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LOOKUPS)
+  public void bulkLookups(final Blackhole blackhole) {
+    final List<CompletableFuture<IssueDetailsMetadata>> results = new ArrayList<>(LOOKUPS);
+    for (int index = 0; index < LOOKUPS; index++) {
+      final MarvelGetIssueDetailsAction action = new MarvelGetIssueDetailsAction();
+      action.setBaseUrl(this.baseUrl);
+      action.setPublicKey("public.key");
+      action.setPrivateKey("private.key");
+      action.setWebClient(this.webClientPool.getWebClient());
+      action.setComicId(String.valueOf(index));
+      results.add(this.executor.submit(action::execute));
+    }
+    results.forEach(result -> blackhole.consume(result.join()));
+  }
+}
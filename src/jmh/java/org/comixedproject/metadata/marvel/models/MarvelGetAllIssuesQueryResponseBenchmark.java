@@ -0,0 +1,72 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.metadata.marvel.MarvelBenchmarkFixtures;
+import org.comixedproject.metadata.marvel.client.MarvelResultsDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+/**
+ * <code>MarvelGetAllIssuesQueryResponseBenchmark</code> measures the cost of decoding a full page
+ * of a series listing, either into a single response object or record by record as is done when
+ * streaming.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarvelGetAllIssuesQueryResponseBenchmark {
+  private final byte[] body =
+      MarvelBenchmarkFixtures.createAllIssuesResponse(MarvelBenchmarkFixtures.PAGE_SIZE)
+          .getBytes(StandardCharsets.UTF_8);
+
+  @Benchmark
+  public MarvelGetAllIssuesQueryResponse decodePage() {
+    return MarvelResultsDecoder.getInstance()
+        .decode(this.body, MarvelGetAllIssuesQueryResponse.class);
+  }
+
+  @Benchmark
+  public List<MarvelSeriesIssueDetailRecord> streamPage() {
+    final Flux<DataBuffer> buffers =
+        Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(this.body)));
+    return MarvelResultsDecoder.getInstance()
+        .decode(buffers, MarvelSeriesIssueDetailRecord.class, total -> {})
+        .collectList()
+        .block();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+
+/**
+ * <code>IssueDetailsBatchResult</code> contains the outcome of retrieving the details for several
+ * issues at once. Each requested id appears exactly once, either with its details, as not found, or
+ * with the error that prevented it from being retrieved.
+ *
+ * @author Darryl L. Pierce
+ */
+public class IssueDetailsBatchResult {
+  private final Map<String, IssueDetailsMetadata> details = new LinkedHashMap<>();
+  private final Set<String> notFound = new LinkedHashSet<>();
+  private final Map<String, MetadataException> errors = new LinkedHashMap<>();
+
+  /**
+   * Returns the details that were found, by issue id.
+   *
+   * @return the details
+   */
+  public Map<String, IssueDetailsMetadata> getDetails() {
+    return Collections.unmodifiableMap(this.details);
+  }
+
+  /**
+   * Returns the ids of issues that Marvel doesn't have.
+   *
+   * @return the ids
+   */
+  public Set<String> getNotFound() {
+    return Collections.unmodifiableSet(this.notFound);
+  }
+
+  /**
+   * Returns the errors for issues that couldn't be retrieved, by issue id.
+   *
+   * @return the errors
+   */
+  public Map<String, MetadataException> getErrors() {
+    return Collections.unmodifiableMap(this.errors);
+  }
+
+  void addDetails(final String issueId, final IssueDetailsMetadata issueDetails) {
+    this.details.put(issueId, issueDetails);
+  }
+
+  void addNotFound(final String issueId) {
+    this.notFound.add(issueId);
+  }
+
+  void addError(final String issueId, final MetadataException error) {
+    this.errors.put(issueId, error);
+  }
+}
@@ -20,22 +20,54 @@ package org.comixedproject.metadata.marvel;
 
 import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import lombok.Synchronized;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.comixedproject.metadata.MetadataException;
 import org.comixedproject.metadata.adaptors.AbstractMetadataAdaptor;
 import org.comixedproject.metadata.marvel.actions.*;
+import org.comixedproject.metadata.marvel.adaptor.MetadataCopyAdaptor;
+import org.comixedproject.metadata.marvel.auth.MarvelRequestSigner;
+import org.comixedproject.metadata.marvel.cache.MarvelMemoryCache;
+import org.comixedproject.metadata.marvel.cache.MarvelResponseCache;
+import org.comixedproject.metadata.marvel.cache.MarvelSeriesStore;
+import org.comixedproject.metadata.marvel.client.MarvelBulkExecutor;
+import org.comixedproject.metadata.marvel.client.MarvelRateLimiter;
+import org.comixedproject.metadata.marvel.client.MarvelRetryPolicy;
+import org.comixedproject.metadata.marvel.client.MarvelTracer;
+import org.comixedproject.metadata.marvel.client.MarvelWebClientPool;
+import org.comixedproject.metadata.marvel.client.MarvelWebClientSettings;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
 import org.comixedproject.metadata.model.IssueMetadata;
 import org.comixedproject.metadata.model.VolumeMetadata;
 import org.comixedproject.model.metadata.MetadataSource;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * <code>MarvelMetadataAdaptor</code> provides the adaptor to use when fetching metadata from
- * Marvel's online service.
+ * Marvel's online service. It is safe to use from multiple threads at the same time, since each
+ * request uses its own action.
  *
  * @author Darryl L. Pierce
  */
@@ -44,16 +76,67 @@ public class MarvelMetadataAdaptor extends AbstractMetadataAdaptor {
   /** The value to use where a publisher is required. */
   public static final String PUBLISHER_NAME = "Marvel";
 
+  /** The default number of issues fetched at the same time by a batch. */
+  public static final int DEFAULT_BATCH_CONCURRENCY = 10;
+
   static final String REFERENCE_ID_PATTERN =
       "^https?\\:\\/\\/.*(marvel\\.com)\\/comics\\/issue\\/([\\d]+).*";
   private static final int REFERENCE_ID_POSITION = 2;
 
+  @Getter
+  @Setter(AccessLevel.PACKAGE)
+  private String baseUrl;
+
+  /**
+   * The registry for the meters recorded by each action. Nothing is recorded when no registry is
+   * set, and Micrometer is then not needed.
+   */
+  @Getter @Setter private MeterRegistry meterRegistry;
+
+  /** The tracer for the calls made by each action. Nothing is traced by default. */
+  @Getter @Setter private MarvelTracer tracer = MarvelTracer.NOOP;
+
+  private final Object webClientPoolLock = new Object();
+  private MarvelWebClientPool webClientPool;
+  private final Object responseCacheLock = new Object();
+  private MarvelResponseCache responseCache;
+  private final Object bulkExecutorLock = new Object();
+  private final Object requestSignerLock = new Object();
+  private MarvelRequestSigner requestSigner;
+  private MarvelBulkExecutor bulkExecutor;
+
+  @Getter
+  private final MarvelMemoryCache<String, IssueDetailsMetadata> issueDetailsCache =
+      new MarvelMemoryCache<>(
+          MarvelMemoryCache.DEFAULT_MAX_ENTRIES,
+          Duration.ofMinutes(MarvelMemoryCache.DEFAULT_TTL),
+          MetadataCopyAdaptor.getInstance()::copyIssueDetails);
+
+  @Getter
+  private final MarvelMemoryCache<String, List<VolumeMetadata>> volumesCache =
+      new MarvelMemoryCache<>(
+          MarvelMemoryCache.DEFAULT_MAX_ENTRIES,
+          Duration.ofMinutes(MarvelMemoryCache.DEFAULT_TTL),
+          MetadataCopyAdaptor.getInstance()::copyVolumes);
+
+  @Setter(AccessLevel.PACKAGE)
+  private Scheduler prefetchScheduler = Schedulers.boundedElastic();
+
+  private final Set<String> prefetchingSeries = ConcurrentHashMap.newKeySet();
+
+  @Getter
+  private final MarvelSeriesStore seriesStore =
+      new MarvelSeriesStore(
+          MarvelSeriesStore.DEFAULT_MAX_SERIES, Duration.ofMinutes(MarvelMemoryCache.DEFAULT_TTL));
+
+  private final Object rateLimiterLock = new Object();
+  @Getter private volatile MarvelRateLimiter rateLimiter;
+
   public MarvelMetadataAdaptor() {
     super("ComiXed Marvel Scraper", PROVIDER_NAME);
   }
 
   @Override
-  @Synchronized
   protected IssueMetadata doGetIssue(
       final String volume, final String issueNumber, final MetadataSource metadataSource)
       throws MetadataException {
@@ -66,17 +149,43 @@ public class MarvelMetadataAdaptor extends AbstractMetadataAdaptor {
       final MetadataSource metadataSource,
       final MarvelGetIssueAction action)
       throws MetadataException {
-    action.setSeries(volume);
-    action.setIssueNumber(issueNumber);
-    this.doSetCommonProperties(action, metadataSource);
+    return this.doBlock(this.getIssueReactive(volume, issueNumber, metadataSource, action));
+  }
+
+  /**
+   * Retrieves an issue without blocking. Completes without a value if the issue isn't found.
+   *
+   * @param volume the volume id
+   * @param issueNumber the issue number
+   * @param metadataSource the metadata source
+   * @return the issue
+   */
+  public Mono<IssueMetadata> getIssueReactive(
+      final String volume, final String issueNumber, final MetadataSource metadataSource) {
+    return this.getIssueReactive(volume, issueNumber, metadataSource, new MarvelGetIssueAction());
+  }
 
-    final List<IssueMetadata> result = action.execute();
+  Mono<IssueMetadata> getIssueReactive(
+      final String volume,
+      final String issueNumber,
+      final MetadataSource metadataSource,
+      final MarvelGetIssueAction action) {
+    return Mono.defer(
+        () -> {
+          action.setSeries(volume);
+          action.setIssueNumber(issueNumber);
+          final MarvelWebClientPool pool;
+          try {
+            pool = this.doSetCommonProperties(action, metadataSource);
+          } catch (MetadataException error) {
+            return Mono.error(error);
+          }
 
-    return (result.isEmpty() ? null : result.get(0));
+          return action.executeReactive().doFinally(signal -> pool.release()).next();
+        });
   }
 
   @Override
-  @Synchronized
   public List<VolumeMetadata> getVolumes(
       final String seriesName, final Integer maxRecords, final MetadataSource metadataSource)
       throws MetadataException {
@@ -89,14 +198,60 @@ public class MarvelMetadataAdaptor extends AbstractMetadataAdaptor {
       final MetadataSource metadataSource,
       final MarvelGetVolumesAction action)
       throws MetadataException {
-    log.debug("Fetching volumes from Marvel: name={}", seriesName);
-    action.setSeries(seriesName);
-    action.setMaxRecords(maxRecords);
+    return this.doBlock(
+        this.getVolumesReactive(seriesName, maxRecords, metadataSource, action).collectList());
+  }
+
+  /**
+   * Retrieves the candidate volumes for a series without blocking. Each volume is emitted once the
+   * page containing it has been received.
+   *
+   * @param seriesName the series name
+   * @param maxRecords the maximum number of volumes
+   * @param metadataSource the metadata source
+   * @return the volumes
+   */
+  public Flux<VolumeMetadata> getVolumesReactive(
+      final String seriesName, final Integer maxRecords, final MetadataSource metadataSource) {
+    return this.getVolumesReactive(
+        seriesName, maxRecords, metadataSource, new MarvelGetVolumesAction());
+  }
+
+  Flux<VolumeMetadata> getVolumesReactive(
+      final String seriesName,
+      final Integer maxRecords,
+      final MetadataSource metadataSource,
+      final MarvelGetVolumesAction action) {
+    return Flux.defer(
+        () -> {
+          final String key = String.format("%s|%d", seriesName, maxRecords);
+          final MarvelWebClientPool pool;
+          try {
+            this.doConfigureMemoryCache(this.volumesCache, metadataSource);
+            final List<VolumeMetadata> cached = this.volumesCache.get(key);
+            if (cached != null) {
+              log.debug("Returning cached volumes: name={}", seriesName);
+              return Flux.fromIterable(cached);
+            }
+
+            log.debug("Fetching volumes from Marvel: name={}", seriesName);
+            action.setSeries(seriesName);
+            action.setMaxRecords(maxRecords);
 
-    doSetCommonProperties(action, metadataSource);
+            pool = this.doSetCommonProperties(action, metadataSource);
+          } catch (MetadataException error) {
+            return Flux.error(error);
+          }
 
-    log.debug("Getting all volumes");
-    return action.execute();
+          log.debug("Getting all volumes");
+          final List<VolumeMetadata> received = new ArrayList<>();
+          return action
+              .executeReactive()
+              .doFinally(signal -> pool.release())
+              .doOnNext(
+                  volume -> received.add(MetadataCopyAdaptor.getInstance().copyVolume(volume)))
+              .doOnComplete(() -> this.volumesCache.put(key, received));
+        });
   }
 
   @Override
@@ -110,13 +265,86 @@ public class MarvelMetadataAdaptor extends AbstractMetadataAdaptor {
       final MetadataSource metadataSource,
       final MarvelGetAllIssuesAction action)
       throws MetadataException {
-    log.debug("Setting series id: {}", seriesId);
-    action.setSeriesId(seriesId);
+    return this.doBlock(this.getAllIssuesReactive(seriesId, metadataSource, action).collectList());
+  }
+
+  /**
+   * Retrieves all issues for a series without blocking. Each issue is emitted once the page
+   * containing it has been received.
+   *
+   * @param seriesId the series id
+   * @param metadataSource the metadata source
+   * @return the issues
+   */
+  public Flux<IssueDetailsMetadata> getAllIssuesReactive(
+      final String seriesId, final MetadataSource metadataSource) {
+    return this.getAllIssuesReactive(seriesId, metadataSource, new MarvelGetAllIssuesAction());
+  }
 
-    doSetCommonProperties(action, metadataSource);
+  Flux<IssueDetailsMetadata> getAllIssuesReactive(
+      final String seriesId,
+      final MetadataSource metadataSource,
+      final MarvelGetAllIssuesAction action) {
+    return Flux.defer(
+        () -> {
+          log.debug("Setting series id: {}", seriesId);
+          action.setSeriesId(seriesId);
+
+          final boolean prefetch;
+          final MarvelWebClientPool pool;
+          try {
+            action.setFormat(
+                this.getSourcePropertyByName(
+                    metadataSource.getProperties(), PROPERTY_FORMAT, false));
+            action.setFormatType(
+                this.getSourcePropertyByName(
+                    metadataSource.getProperties(), PROPERTY_FORMAT_TYPE, false));
+            prefetch = this.doConfigureSeriesStore(metadataSource);
+            pool = this.doSetCommonProperties(action, metadataSource);
+          } catch (MetadataException error) {
+            return Flux.error(error);
+          }
+
+          log.debug("Getting all issues for series");
+          final Flux<IssueDetailsMetadata> result =
+              action.executeReactive().doFinally(signal -> pool.release());
+          // a listing filtered by modification time doesn't hold the whole series
+          return prefetch && action.getModifiedSince() == null
+              ? result.doOnComplete(
+                  () -> this.seriesStore.put(seriesId, action.getCompleteIssues()))
+              : result;
+        });
+  }
+
+  /**
+   * Retrieves the issues in a series that changed since the last sync. The returned high-water mark
+   * is passed as the last sync time the next time the series is synced.
+   *
+   * @param seriesId the series id
+   * @param lastSync the time of the last sync, or null to retrieve every issue
+   * @param metadataSource the metadata source
+   * @return the changed issues
+   * @throws MetadataException if an error occurs
+   */
+  public SeriesSyncResult getChangedIssues(
+      final String seriesId, final Date lastSync, final MetadataSource metadataSource)
+      throws MetadataException {
+    return this.getChangedIssues(
+        seriesId, lastSync, metadataSource, new MarvelGetAllIssuesAction());
+  }
 
-    log.debug("Getting all issues for series");
-    return action.execute();
+  SeriesSyncResult getChangedIssues(
+      final String seriesId,
+      final Date lastSync,
+      final MetadataSource metadataSource,
+      final MarvelGetAllIssuesAction action)
+      throws MetadataException {
+    log.debug("Getting changed issues: series id={} since={}", seriesId, lastSync);
+    action.setModifiedSince(lastSync);
+    final List<IssueDetailsMetadata> issues =
+        this.doBlock(this.getAllIssuesReactive(seriesId, metadataSource, action).collectList());
+    log.debug("Found {} changed issue(s)", issues.size());
+    return new SeriesSyncResult(issues, action.getHighWaterMark());
   }
 
   @Override
@@ -130,13 +358,224 @@ public class MarvelMetadataAdaptor extends AbstractMetadataAdaptor {
       final MetadataSource metadataSource,
       final MarvelGetIssueDetailsAction action)
       throws MetadataException {
-    log.debug("Setting issue id: {}:", issueId);
-    action.setComicId(issueId);
+    return this.doBlock(this.getIssueDetailsReactive(issueId, metadataSource, action));
+  }
+
+  /**
+   * Retrieves the details for several issues. Duplicate and blank ids are ignored. Cached details
+   * are returned without a request, and the remaining issues are fetched concurrently, up to the
+   * number set by the <code>marvel.batch-concurrency</code> property. A failure for one issue is
+   * recorded in the result and doesn't stop the others.
+   *
+   * @param issueIds the issue ids
+   * @param metadataSource the metadata source
+   * @return the result
+   * @throws MetadataException if the batch can't be started
+   */
+  public IssueDetailsBatchResult getIssueDetails(
+      final Collection<String> issueIds, final MetadataSource metadataSource)
+      throws MetadataException {
+    return this.doBlock(this.getIssueDetailsReactive(issueIds, metadataSource));
+  }
+
+  /**
+   * Retrieves the details for several issues without blocking.
+   *
+   * @param issueIds the issue ids
+   * @param metadataSource the metadata source
+   * @return the result
+   * @see #getIssueDetails(Collection, MetadataSource)
+   */
+  public Mono<IssueDetailsBatchResult> getIssueDetailsReactive(
+      final Collection<String> issueIds, final MetadataSource metadataSource) {
+    return this.getIssueDetailsReactive(
+        issueIds, metadataSource, issueId -> new MarvelGetIssueDetailsAction());
+  }
+
+  Mono<IssueDetailsBatchResult> getIssueDetailsReactive(
+      final Collection<String> issueIds,
+      final MetadataSource metadataSource,
+      final Function<String, MarvelGetIssueDetailsAction> actionFactory) {
+    return Mono.defer(
+        () -> {
+          final int concurrency;
+          try {
+            concurrency =
+                this.doGetIntegerProperty(
+                    metadataSource, PROPERTY_BATCH_CONCURRENCY, DEFAULT_BATCH_CONCURRENCY);
+          } catch (MetadataException error) {
+            return Mono.error(error);
+          }
+          final Set<String> uniqueIds = new LinkedHashSet<>();
+          issueIds.stream()
+              .filter(StringUtils::isNotBlank)
+              .map(String::trim)
+              .forEach(uniqueIds::add);
+          log.debug(
+              "Getting details for {} issue(s): concurrency={}", uniqueIds.size(), concurrency);
+
+          return Flux.fromIterable(uniqueIds)
+              .flatMapSequential(
+                  issueId ->
+                      this.getIssueDetailsReactive(
+                              issueId, metadataSource, actionFactory.apply(issueId))
+                          .<Consumer<IssueDetailsBatchResult>>map(
+                              details -> result -> result.addDetails(issueId, details))
+                          .defaultIfEmpty(result -> result.addNotFound(issueId))
+                          .onErrorResume(
+                              error -> {
+                                log.debug("Failed to get issue details: id={}", issueId, error);
+                                final MetadataException cause =
+                                    this.doCreateMetadataException(error);
+                                return Mono.just(result -> result.addError(issueId, cause));
+                              }),
+                  Math.max(1, concurrency))
+              .collect(IssueDetailsBatchResult::new, (result, update) -> update.accept(result));
+        });
+  }
 
-    this.doSetCommonProperties(action, metadataSource);
+  /**
+   * Retrieves the details for an issue using the bulk executor, so that batch jobs can submit many
+   * lookups at once. When the <code>marvel.virtual-threads</code> property is enabled and the
+   * runtime supports them, each lookup runs on a virtual thread. The number of lookups in flight is
+   * capped by the <code>marvel.bulk-max-in-flight</code> property.
+   *
+   * @param issueId the issue id
+   * @param metadataSource the metadata source
+   * @return the details
+   */
+  public CompletableFuture<IssueDetailsMetadata> getIssueDetailsAsync(
+      final String issueId, final MetadataSource metadataSource) {
+    return this.getIssueDetailsAsync(issueId, metadataSource, new MarvelGetIssueDetailsAction());
+  }
 
-    log.debug("Getting issue details");
-    return action.execute();
+  CompletableFuture<IssueDetailsMetadata> getIssueDetailsAsync(
+      final String issueId,
+      final MetadataSource metadataSource,
+      final MarvelGetIssueDetailsAction action) {
+    final boolean virtualThreads;
+    final int maxInFlight;
+    try {
+      virtualThreads =
+          Boolean.parseBoolean(
+              this.getSourcePropertyByName(
+                  metadataSource.getProperties(), PROPERTY_VIRTUAL_THREADS, false));
+      maxInFlight =
+          this.doGetIntegerProperty(
+              metadataSource,
+              PROPERTY_BULK_MAX_IN_FLIGHT,
+              MarvelBulkExecutor.DEFAULT_MAX_IN_FLIGHT);
+    } catch (MetadataException error) {
+      return CompletableFuture.failedFuture(error);
+    }
+    // submitted under the lock so the executor can't be replaced and shut down in between
+    synchronized (this.bulkExecutorLock) {
+      return this.doGetBulkExecutor(virtualThreads, maxInFlight)
+          .submit(() -> this.getIssueDetails(issueId, metadataSource, action));
+    }
+  }
+
+  /**
+   * Retrieves the details for an issue without blocking. Completes without a value if the issue
+   * isn't found.
+   *
+   * @param issueId the issue id
+   * @param metadataSource the metadata source
+   * @return the details
+   */
+  public Mono<IssueDetailsMetadata> getIssueDetailsReactive(
+      final String issueId, final MetadataSource metadataSource) {
+    return this.getIssueDetailsReactive(issueId, metadataSource, new MarvelGetIssueDetailsAction());
+  }
+
+  Mono<IssueDetailsMetadata> getIssueDetailsReactive(
+      final String issueId,
+      final MetadataSource metadataSource,
+      final MarvelGetIssueDetailsAction action) {
+    return this.getIssueDetailsReactive(
+        issueId, metadataSource, action, new MarvelGetAllIssuesAction());
+  }
+
+  /**
+   * Retrieves the details for an issue. When the <code>marvel.series-prefetch</code> property is
+   * enabled, the first issue retrieved for a series also starts loading the listing for that series
+   * in the background, and later issues from it are returned from that listing without a request of
+   * their own. The issue itself is returned without waiting for the listing.
+   */
+  Mono<IssueDetailsMetadata> getIssueDetailsReactive(
+      final String issueId,
+      final MetadataSource metadataSource,
+      final MarvelGetIssueDetailsAction action,
+      final MarvelGetAllIssuesAction seriesAction) {
+    return Mono.defer(
+        () -> {
+          final boolean prefetch;
+          final MarvelWebClientPool pool;
+          try {
+            this.doConfigureMemoryCache(this.issueDetailsCache, metadataSource);
+            final IssueDetailsMetadata cached = this.issueDetailsCache.get(issueId);
+            if (cached != null) {
+              log.debug("Returning cached issue details: id={}", issueId);
+              return Mono.just(cached);
+            }
+
+            prefetch = this.doConfigureSeriesStore(metadataSource);
+            final IssueDetailsMetadata stored = prefetch ? this.seriesStore.get(issueId) : null;
+            if (stored != null) {
+              log.debug("Returning issue details from series listing: id={}", issueId);
+              this.issueDetailsCache.put(issueId, stored);
+              return Mono.just(stored);
+            }
+
+            log.debug("Setting issue id: {}:", issueId);
+            action.setComicId(issueId);
+
+            pool = this.doSetCommonProperties(action, metadataSource);
+          } catch (MetadataException error) {
+            return Mono.error(error);
+          }
+
+          log.debug("Getting issue details");
+          final Mono<IssueDetailsMetadata> result =
+              action
+                  .executeReactive()
+                  .doFinally(signal -> pool.release())
+                  .doOnNext(details -> this.issueDetailsCache.put(issueId, details));
+          return prefetch
+              ? result.doOnNext(
+                  details ->
+                      this.doPrefetchSeries(action.getSeriesId(), metadataSource, seriesAction))
+              : result;
+        });
+  }
+
+  private void doPrefetchSeries(
+      final String seriesId,
+      final MetadataSource metadataSource,
+      final MarvelGetAllIssuesAction action) {
+    if (StringUtils.isBlank(seriesId)
+        || this.seriesStore.contains(seriesId)
+        || !this.prefetchingSeries.add(seriesId)) {
+      return;
+    }
+    log.debug("Prefetching series listing: id={}", seriesId);
+    this.getAllIssuesReactive(seriesId, metadataSource, action)
+        .subscribeOn(this.prefetchScheduler)
+        .doFinally(signal -> this.prefetchingSeries.remove(seriesId))
+        .subscribe(
+            issue -> {},
+            error -> log.debug("Failed to prefetch series listing: id={}", seriesId, error));
+  }
+
+  /**
+   * Returns the number of requests remaining in today's quota, so that bulk jobs can pace
+   * themselves.
+   *
+   * @return the remaining requests, or {@link Integer#MAX_VALUE} if no rate limit is configured
+   */
+  public int getRemainingDailyQuota() {
+    final MarvelRateLimiter limiter = this.rateLimiter;
+    return limiter != null ? limiter.getRemainingQuota() : Integer.MAX_VALUE;
   }
 
   @Override
@@ -151,12 +590,253 @@ public class MarvelMetadataAdaptor extends AbstractMetadataAdaptor {
     return referenceId;
   }
 
-  private void doSetCommonProperties(
+  /**
+   * Sets the properties shared by all actions. The returned pool has been acquired for the action,
+   * and must be released once the action is finished with it.
+   *
+   * @param action the action
+   * @param metadataSource the metadata source
+   * @return the pool used by the action
+   * @throws MetadataException if a property is invalid
+   */
+  private MarvelWebClientPool doSetCommonProperties(
       final AbstractMarvelScrapingAction<?> action, final MetadataSource metadataSource)
       throws MetadataException {
-    action.setPublicKey(
-        this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_PUBLIC_KEY, true));
-    action.setPrivateKey(
-        this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_PRIVATE_KEY, true));
+    if (StringUtils.isNotBlank(this.baseUrl)) {
+      action.setBaseUrl(this.baseUrl);
+    }
+    final String publicKey =
+        this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_PUBLIC_KEY, true);
+    final String privateKey =
+        this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_PRIVATE_KEY, true);
+    action.setPublicKey(publicKey);
+    action.setPrivateKey(privateKey);
+    action.setRequestSigner(this.doGetRequestSigner(publicKey, privateKey));
+    action.setMeterRegistry(this.meterRegistry);
+    action.setTracer(this.tracer);
+    action.setMaxConcurrentPages(
+        this.doGetIntegerProperty(
+            metadataSource,
+            PROPERTY_MAX_CONCURRENT_PAGES,
+            AbstractMarvelScrapingAction.DEFAULT_MAX_CONCURRENT_PAGES));
+    action.setResponseCache(
+        this.doGetResponseCache(
+            this.getSourcePropertyByName(
+                metadataSource.getProperties(), PROPERTY_CACHE_DIRECTORY, false),
+            this.doGetIntegerProperty(
+                metadataSource, PROPERTY_CACHE_TTL, MarvelResponseCache.DEFAULT_TTL),
+            this.doGetIntegerProperty(
+                metadataSource,
+                PROPERTY_CACHE_MAX_ENTRIES,
+                MarvelResponseCache.DEFAULT_MAX_ENTRIES)));
+    action.setRateLimiter(
+        this.doGetRateLimiter(
+            this.doGetIntegerProperty(
+                metadataSource, PROPERTY_REQUESTS_PER_SECOND, MarvelRateLimiter.UNLIMITED),
+            this.doGetIntegerProperty(
+                metadataSource, PROPERTY_REQUESTS_PER_DAY, MarvelRateLimiter.UNLIMITED)));
+    action.setRetryPolicy(
+        new MarvelRetryPolicy(
+            this.doGetIntegerProperty(
+                metadataSource, PROPERTY_MAX_RETRIES, MarvelRetryPolicy.DEFAULT_MAX_RETRIES),
+            this.doGetIntegerProperty(
+                metadataSource, PROPERTY_RETRY_BACKOFF, MarvelRetryPolicy.DEFAULT_BACKOFF),
+            this.doGetIntegerProperty(
+                metadataSource,
+                PROPERTY_RETRY_MAX_BACKOFF,
+                MarvelRetryPolicy.DEFAULT_MAX_BACKOFF)));
+    action.setStreaming(
+        Boolean.parseBoolean(
+            this.getSourcePropertyByName(
+                metadataSource.getProperties(), PROPERTY_STREAMING, false)));
+    final MarvelWebClientPool pool =
+        this.doAcquireWebClientPool(
+            new MarvelWebClientSettings(
+                this.doGetIntegerProperty(
+                    metadataSource,
+                    PROPERTY_CONNECT_TIMEOUT,
+                    MarvelWebClientSettings.DEFAULT_CONNECT_TIMEOUT),
+                this.doGetIntegerProperty(
+                    metadataSource,
+                    PROPERTY_READ_TIMEOUT,
+                    MarvelWebClientSettings.DEFAULT_READ_TIMEOUT),
+                this.doGetIntegerProperty(
+                    metadataSource,
+                    PROPERTY_MAX_CONNECTIONS,
+                    MarvelWebClientSettings.DEFAULT_MAX_CONNECTIONS)));
+    action.setWebClient(pool.getWebClient());
+    return pool;
+  }
+
+  /**
+   * Returns the pool shared by all actions created by this adaptor, acquired for the caller. The
+   * pool is only replaced when its connection settings change, and a replaced pool is disposed once
+   * every caller still using it has released it.
+   *
+   * @param settings the connection settings
+   * @return the pool
+   */
+  MarvelWebClientPool doAcquireWebClientPool(final MarvelWebClientSettings settings) {
+    synchronized (this.webClientPoolLock) {
+      if (this.webClientPool == null || !this.webClientPool.getSettings().equals(settings)) {
+        if (this.webClientPool != null) {
+          log.debug("Connection settings changed: replacing web client pool");
+          this.webClientPool.retire();
+        }
+        this.webClientPool = new MarvelWebClientPool(settings);
+      }
+      this.webClientPool.acquire();
+      return this.webClientPool;
+    }
+  }
+
+  /**
+   * Returns the response cache shared by all actions created by this adaptor, or null if no cache
+   * directory is configured. The cache is only replaced when its settings change.
+   *
+   * @param directory the cache directory
+   * @param ttl the time, in minutes, before an entry expires
+   * @param maxEntries the maximum number of entries
+   * @return the cache
+   */
+  MarvelResponseCache doGetResponseCache(
+      final String directory, final int ttl, final int maxEntries) {
+    if (StringUtils.isBlank(directory)) {
+      return null;
+    }
+    final Path path = Path.of(directory);
+    final Duration expiration = Duration.ofMinutes(ttl);
+    synchronized (this.responseCacheLock) {
+      if (this.responseCache == null
+          || !this.responseCache.getDirectory().equals(path)
+          || !this.responseCache.getTtl().equals(expiration)
+          || this.responseCache.getMaxEntries() != maxEntries) {
+        this.responseCache = new MarvelResponseCache(path, expiration, maxEntries);
+      }
+      return this.responseCache;
+    }
+  }
+
+  /**
+   * Returns the bulk executor shared by all lookups made by this adaptor. The executor is only
+   * replaced when its settings change.
+   *
+   * @param virtualThreads true if virtual threads are requested
+   * @param maxInFlight the maximum number of lookups in flight
+   * @return the executor
+   */
+  MarvelBulkExecutor doGetBulkExecutor(final boolean virtualThreads, final int maxInFlight) {
+    synchronized (this.bulkExecutorLock) {
+      if (this.bulkExecutor == null
+          || this.bulkExecutor.isVirtualThreadsRequested() != virtualThreads
+          || this.bulkExecutor.getMaxInFlight() != Math.max(1, maxInFlight)) {
+        if (this.bulkExecutor != null) {
+          log.debug("Bulk settings changed: replacing executor");
+          this.bulkExecutor.shutdown();
+        }
+        this.bulkExecutor = new MarvelBulkExecutor(virtualThreads, maxInFlight);
+      }
+      return this.bulkExecutor;
+    }
+  }
+
+  /**
+   * Returns the rate limiter shared by all actions created by this adaptor, or null if no limits
+   * are configured, in which case requests are only slowed down when Marvel asks for it. The
+   * limiter is only updated when its limits change, so the requests already counted today are kept.
+   *
+   * @param requestsPerSecond the requests allowed each second
+   * @param requestsPerDay the requests allowed each day
+   * @return the limiter
+   */
+  MarvelRateLimiter doGetRateLimiter(final int requestsPerSecond, final int requestsPerDay) {
+    synchronized (this.rateLimiterLock) {
+      if (requestsPerSecond <= MarvelRateLimiter.UNLIMITED
+          && requestsPerDay <= MarvelRateLimiter.UNLIMITED) {
+        this.rateLimiter = null;
+      } else if (this.rateLimiter == null) {
+        this.rateLimiter = new MarvelRateLimiter(requestsPerSecond, requestsPerDay);
+      } else {
+        this.rateLimiter.configure(requestsPerSecond, requestsPerDay);
+      }
+      return this.rateLimiter;
+    }
+  }
+
+  /**
+   * Returns the request signer shared by all actions created by this adaptor. The signer is only
+   * replaced when the keys change.
+   *
+   * @param publicKey the public key
+   * @param privateKey the private key
+   * @return the signer
+   */
+  MarvelRequestSigner doGetRequestSigner(final String publicKey, final String privateKey) {
+    synchronized (this.requestSignerLock) {
+      if (this.requestSigner == null || !this.requestSigner.isFor(publicKey, privateKey)) {
+        this.requestSigner = new MarvelRequestSigner(publicKey, privateKey);
+      }
+      return this.requestSigner;
+    }
+  }
+
+  private <T> T doBlock(final Mono<T> request) throws MetadataException {
+    try {
+      return request.block();
+    } catch (RuntimeException error) {
+      throw this.doCreateMetadataException(error);
+    }
+  }
+
+  private MetadataException doCreateMetadataException(final Throwable error) {
+    final Throwable cause = Exceptions.unwrap(error);
+    if (cause instanceof MetadataException) {
+      return (MetadataException) cause;
+    }
+    return new MetadataException("Failed to get response", error);
+  }
+
+  private void doConfigureMemoryCache(
+      final MarvelMemoryCache<?, ?> cache, final MetadataSource metadataSource)
+      throws MetadataException {
+    cache.configure(
+        this.doGetIntegerProperty(
+            metadataSource,
+            PROPERTY_MEMORY_CACHE_MAX_ENTRIES,
+            MarvelMemoryCache.DEFAULT_MAX_ENTRIES),
+        Duration.ofMinutes(
+            this.doGetIntegerProperty(
+                metadataSource, PROPERTY_MEMORY_CACHE_TTL, MarvelMemoryCache.DEFAULT_TTL)));
+  }
+
+  private boolean doConfigureSeriesStore(final MetadataSource metadataSource)
+      throws MetadataException {
+    final boolean enabled =
+        Boolean.parseBoolean(
+            this.getSourcePropertyByName(
+                metadataSource.getProperties(), PROPERTY_SERIES_PREFETCH, false));
+    if (enabled) {
+      this.seriesStore.configure(
+          MarvelSeriesStore.DEFAULT_MAX_SERIES,
+          Duration.ofMinutes(
+              this.doGetIntegerProperty(
+                  metadataSource, PROPERTY_MEMORY_CACHE_TTL, MarvelMemoryCache.DEFAULT_TTL)));
+    }
+    return enabled;
+  }
+
+  private int doGetIntegerProperty(
+      final MetadataSource metadataSource, final String name, final int defaultValue)
+      throws MetadataException {
+    final String value = this.getSourcePropertyByName(metadataSource.getProperties(), name, false);
+    if (StringUtils.isBlank(value)) {
+      log.trace("Using default value: {}={}", name, defaultValue);
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException error) {
+      throw new MetadataException(String.format("Invalid value: %s=%s", name, value), error);
+    }
   }
 }
@@ -38,12 +38,54 @@ public class MarvelMetadataAdaptorProvider extends AbstractMetadataAdaptorProvid
   // configuration options
   static final String PROPERTY_PUBLIC_KEY = "marvel.public-key";
   static final String PROPERTY_PRIVATE_KEY = "marvel.private-key";
+  static final String PROPERTY_MAX_CONCURRENT_PAGES = "marvel.max-concurrent-pages";
+  static final String PROPERTY_CONNECT_TIMEOUT = "marvel.connect-timeout";
+  static final String PROPERTY_READ_TIMEOUT = "marvel.read-timeout";
+  static final String PROPERTY_MAX_CONNECTIONS = "marvel.max-connections";
+  static final String PROPERTY_CACHE_DIRECTORY = "marvel.cache-directory";
+  static final String PROPERTY_CACHE_TTL = "marvel.cache-ttl";
+  static final String PROPERTY_CACHE_MAX_ENTRIES = "marvel.cache-max-entries";
+  static final String PROPERTY_MEMORY_CACHE_MAX_ENTRIES = "marvel.memory-cache-max-entries";
+  static final String PROPERTY_MEMORY_CACHE_TTL = "marvel.memory-cache-ttl";
+  static final String PROPERTY_REQUESTS_PER_SECOND = "marvel.requests-per-second";
+  static final String PROPERTY_REQUESTS_PER_DAY = "marvel.requests-per-day";
+  static final String PROPERTY_MAX_RETRIES = "marvel.max-retries";
+  static final String PROPERTY_RETRY_BACKOFF = "marvel.retry-backoff";
+  static final String PROPERTY_RETRY_MAX_BACKOFF = "marvel.retry-max-backoff";
+  static final String PROPERTY_STREAMING = "marvel.streaming";
+  static final String PROPERTY_VIRTUAL_THREADS = "marvel.virtual-threads";
+  static final String PROPERTY_BULK_MAX_IN_FLIGHT = "marvel.bulk-max-in-flight";
+  static final String PROPERTY_BATCH_CONCURRENCY = "marvel.batch-concurrency";
+  static final String PROPERTY_SERIES_PREFETCH = "marvel.series-prefetch";
+  static final String PROPERTY_FORMAT = "marvel.format";
+  static final String PROPERTY_FORMAT_TYPE = "marvel.format-type";
 
   public MarvelMetadataAdaptorProvider() {
     super(PROVIDER_NAME, VERSION, HOMEPAGE);
 
     this.addProperty(PROPERTY_PUBLIC_KEY);
     this.addProperty(PROPERTY_PRIVATE_KEY);
+    this.addProperty(PROPERTY_MAX_CONCURRENT_PAGES);
+    this.addProperty(PROPERTY_CONNECT_TIMEOUT);
+    this.addProperty(PROPERTY_READ_TIMEOUT);
+    this.addProperty(PROPERTY_MAX_CONNECTIONS);
+    this.addProperty(PROPERTY_CACHE_DIRECTORY);
+    this.addProperty(PROPERTY_CACHE_TTL);
+    this.addProperty(PROPERTY_CACHE_MAX_ENTRIES);
+    this.addProperty(PROPERTY_MEMORY_CACHE_MAX_ENTRIES);
+    this.addProperty(PROPERTY_MEMORY_CACHE_TTL);
+    this.addProperty(PROPERTY_REQUESTS_PER_SECOND);
+    this.addProperty(PROPERTY_REQUESTS_PER_DAY);
+    this.addProperty(PROPERTY_MAX_RETRIES);
+    this.addProperty(PROPERTY_RETRY_BACKOFF);
+    this.addProperty(PROPERTY_RETRY_MAX_BACKOFF);
+    this.addProperty(PROPERTY_STREAMING);
+    this.addProperty(PROPERTY_VIRTUAL_THREADS);
+    this.addProperty(PROPERTY_BULK_MAX_IN_FLIGHT);
+    this.addProperty(PROPERTY_BATCH_CONCURRENCY);
+    this.addProperty(PROPERTY_SERIES_PREFETCH);
+    this.addProperty(PROPERTY_FORMAT);
+    this.addProperty(PROPERTY_FORMAT_TYPE);
   }
 
   /**
@@ -0,0 +1,37 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel;
+
+import java.util.Date;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+
+/**
+ * <code>SeriesSyncResult</code> contains the issues in a series that changed since the last sync,
+ * along with the time to pass to the next sync.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public class SeriesSyncResult {
+  @Getter private final List<IssueDetailsMetadata> issues;
+  @Getter private final Date highWaterMark;
+}
@@ -18,20 +18,43 @@
 
 package org.comixedproject.metadata.marvel.actions;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.comixedproject.metadata.MetadataException;
 import org.comixedproject.metadata.actions.AbstractScrapingAction;
-import org.comixedproject.metadata.marvel.auth.MarvelAuthorizationAdaptor;
+import org.comixedproject.metadata.marvel.auth.MarvelRequestSigner;
+import org.comixedproject.metadata.marvel.cache.MarvelResponseCache;
+import org.comixedproject.metadata.marvel.client.MarvelMetrics;
+import org.comixedproject.metadata.marvel.client.MarvelRateLimiter;
+import org.comixedproject.metadata.marvel.client.MarvelResultsDecoder;
+import org.comixedproject.metadata.marvel.client.MarvelRetryPolicy;
+import org.comixedproject.metadata.marvel.client.MarvelTracer;
+import org.comixedproject.metadata.marvel.client.MarvelUrlBuilder;
 import org.comixedproject.metadata.marvel.models.BaseMarvelResponse;
-import org.comixedproject.metadata.marvel.models.MarvelDate;
+import org.comixedproject.metadata.marvel.models.MarvelDataPayload;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 
 /**
  * <code>AbstractMarvelScrapingAction</code> provides a foundation for creating actions for the
@@ -42,18 +65,44 @@ import org.comixedproject.metadata.marvel.models.MarvelDate;
  */
 @Log4j2
 public abstract class AbstractMarvelScrapingAction<T> extends AbstractScrapingAction<T> {
-  // 1 - base URL and port, 2 - path, 3 - query parameters, 4 - timestamp, 5 - api key
-  private static final String URL_FORMAT = "%s/v1/public/%s?%s&ts=%s&apikey=%s&hash=%s";
-  static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+  /** The largest page size accepted by Marvel's online service. */
+  public static final int MAX_PAGE_SIZE = 100;
+
+  /** The default number of pages requested at the same time. */
+  public static final int DEFAULT_MAX_CONCURRENT_PAGES = 4;
+
+  /** The error code returned by Marvel once the daily quota is used. */
+  static final String QUOTA_EXCEEDED_CODE = "RequestThrottled";
+
+  /** The message returned by Marvel once the daily quota is used. */
+  static final String QUOTA_EXCEEDED_MESSAGE = "You have exceeded your rate limit";
+
+  private static final byte[] NOT_MODIFIED = new byte[0];
+  private static final String CALL_SPAN_KEY = MarvelTracer.CALL_SPAN;
 
   @Getter @Setter private String baseUrl = "https://gateway.marvel.com";
   @Getter @Setter private String publicKey;
   @Getter @Setter private String privateKey;
+  @Getter @Setter private int maxConcurrentPages = DEFAULT_MAX_CONCURRENT_PAGES;
+  @Getter @Setter private WebClient webClient;
+  @Getter @Setter private MarvelResponseCache responseCache;
+  @Getter @Setter private MarvelRateLimiter rateLimiter;
+  @Getter @Setter private MarvelRequestSigner requestSigner;
+  @Getter @Setter private MeterRegistry meterRegistry;
+  @Getter @Setter private MarvelTracer tracer = MarvelTracer.NOOP;
+  private MarvelMetrics metrics;
+
+  @Getter @Setter
+  private MarvelRetryPolicy retryPolicy =
+      new MarvelRetryPolicy(
+          MarvelRetryPolicy.DEFAULT_MAX_RETRIES,
+          MarvelRetryPolicy.DEFAULT_BACKOFF,
+          MarvelRetryPolicy.DEFAULT_MAX_BACKOFF);
+
+  @Getter @Setter private boolean streaming;
 
   protected boolean isDone(final BaseMarvelResponse<?> response) {
-    final int current =
-        ((response.getData().getLimit() + response.getData().getOffset())
-            + response.getData().getCount());
+    final int current = response.getData().getOffset() + response.getData().getCount();
     final Integer total = response.getData().getTotal();
     final boolean result = total <= current;
     log.trace("current={} total={} result={}", current, total, result);
@@ -75,41 +124,730 @@ public abstract class AbstractMarvelScrapingAction<T> extends AbstractScrapingAc
    * Creates the URL to use.
    *
    * @param path the url path
-   * @param parameters the parameters for the request
+   * @param parameters the encoded parameters for the request
    * @return the URL
+   * @see MarvelUrlBuilder#parameters()
    */
   protected String doCreateUrl(final String path, final String parameters) {
-    final long timestamp = System.currentTimeMillis();
+    return this.doGetUrlBuilder()
+        .build(this.baseUrl, path, parameters, this.publicKey, this.doGetRequestSigner().sign());
+  }
+
+  /**
+   * Returns the builder for the URLs of this action's endpoint, which is shared by every action of
+   * the same type.
+   *
+   * @return the URL builder
+   */
+  protected abstract MarvelUrlBuilder doGetUrlBuilder();
+
+  private MarvelRequestSigner doGetRequestSigner() {
+    MarvelRequestSigner signer = this.requestSigner;
+    if (signer == null || !signer.isFor(this.publicKey, this.privateKey)) {
+      log.trace("Creating request signer");
+      signer = new MarvelRequestSigner(this.publicKey, this.privateKey);
+      this.requestSigner = signer;
+    }
+    return signer;
+  }
+
+  /**
+   * Returns the metrics for the requests made by this action. Nothing is recorded when no meter
+   * registry was provided.
+   *
+   * @return the metrics
+   */
+  protected MarvelMetrics doGetMetrics() {
+    MarvelMetrics result = this.metrics;
+    if (result == null || result.getRegistry() != this.meterRegistry) {
+      result = MarvelMetrics.create(this.meterRegistry, this.getClass());
+      this.metrics = result;
+    }
+    return result;
+  }
+
+  /**
+   * Starts the span for a call. The span must be ended once the call completes, and is the parent
+   * of the spans for the pages fetched during the call when they are requested using {@link
+   * #doWithinCall(Mono, MarvelTracer.Span)}.
+   *
+   * @param path the url path
+   * @return the span
+   */
+  protected MarvelTracer.Span doStartCall(final String path) {
+    final MarvelTracer.Span result = this.doGetTracer().startSpan(MarvelTracer.CALL_SPAN, null);
+    result.setAttribute(MarvelTracer.ATTRIBUTE_ACTION, this.getClass().getSimpleName());
+    result.setAttribute(MarvelTracer.ATTRIBUTE_ENDPOINT, MarvelMetrics.getEndpoint(path));
+    return result;
+  }
+
+  /**
+   * Makes a request within a call, so that the spans for its pages are children of the call's span.
+   *
+   * @param request the request
+   * @param callSpan the span for the call
+   * @return the request
+   * @param <R> the response type
+   */
+  protected <R> Mono<R> doWithinCall(final Mono<R> request, final MarvelTracer.Span callSpan) {
+    return request.contextWrite(Context.of(CALL_SPAN_KEY, callSpan));
+  }
+
+  /**
+   * Traces a call that returns a single value.
+   *
+   * @param path the url path
+   * @param call the call
+   * @return the traced call
+   * @param <R> the response type
+   */
+  protected <R> Mono<R> doTraceCall(final String path, final Mono<R> call) {
+    return Mono.defer(
+        () -> {
+          final MarvelTracer.Span span = this.doStartCall(path);
+          return this.doWithinCall(
+              doEndSpan(
+                  call.doOnSuccess(
+                      response ->
+                          span.setAttribute(
+                              MarvelTracer.ATTRIBUTE_RECORDS, response != null ? 1L : 0L)),
+                  span),
+              span);
+        });
+  }
+
+  /**
+   * Traces a call that returns many values.
+   *
+   * @param path the url path
+   * @param call the call
+   * @return the traced call
+   * @param <E> the returned type
+   */
+  protected <E> Flux<E> doTraceCall(final String path, final Flux<E> call) {
+    return Flux.defer(
+        () -> {
+          final MarvelTracer.Span span = this.doStartCall(path);
+          final AtomicInteger records = new AtomicInteger();
+          return doEndSpan(
+                  call.doOnNext(entry -> records.incrementAndGet())
+                      .doOnTerminate(
+                          () -> span.setAttribute(MarvelTracer.ATTRIBUTE_RECORDS, records.get())),
+                  span)
+              .contextWrite(Context.of(CALL_SPAN_KEY, span));
+        });
+  }
+
+  /**
+   * Ends a span when a request completes, fails or is cancelled. The span is ended before the
+   * result is passed on, so it is always ended by the time a blocked caller receives the result.
+   *
+   * @param request the request
+   * @param span the span
+   * @return the request
+   * @param <R> the response type
+   */
+  private static <R> Mono<R> doEndSpan(final Mono<R> request, final MarvelTracer.Span span) {
+    final Runnable end = doEndOnce(span);
+    return request
+        .doOnSuccess(response -> end.run())
+        .doOnError(
+            error -> {
+              span.setError(error);
+              end.run();
+            })
+        .doOnCancel(end);
+  }
+
+  /**
+   * Ends a span when a streamed request completes, fails or is cancelled.
+   *
+   * @param request the request
+   * @param span the span
+   * @return the request
+   * @param <R> the record type
+   */
+  private static <R> Flux<R> doEndSpan(final Flux<R> request, final MarvelTracer.Span span) {
+    final Runnable end = doEndOnce(span);
+    return request
+        .doOnComplete(end)
+        .doOnError(
+            error -> {
+              span.setError(error);
+              end.run();
+            })
+        .doOnCancel(end);
+  }
+
+  private static Runnable doEndOnce(final MarvelTracer.Span span) {
+    final AtomicBoolean ended = new AtomicBoolean(false);
+    return () -> {
+      if (ended.compareAndSet(false, true)) {
+        span.end();
+      }
+    };
+  }
+
+  private MarvelTracer doGetTracer() {
+    return this.tracer != null ? this.tracer : MarvelTracer.NOOP;
+  }
+
+  private MarvelTracer.Span doStartPage(final ContextView context, final String path) {
+    final MarvelTracer.Span result =
+        this.doGetTracer()
+            .startSpan(MarvelTracer.PAGE_SPAN, context.getOrDefault(CALL_SPAN_KEY, null));
+    result.setAttribute(MarvelTracer.ATTRIBUTE_ENDPOINT, MarvelMetrics.getEndpoint(path));
+    return result;
+  }
+
+  /**
+   * Returns the web client to use for a request. The shared client is used when one was provided,
+   * otherwise a client is created for the request.
+   *
+   * @param url the request URL
+   * @return the web client
+   */
+  protected WebClient doGetWebClient(final String url) {
+    if (this.webClient != null) {
+      return this.webClient;
+    }
+    log.trace("No shared web client: creating one for request");
+    return this.createWebClient(url);
+  }
+
+  /**
+   * Creates the request for every record for a paged endpoint. The first page is loaded to find the
+   * total number of records, then the remaining pages are requested concurrently, up to the
+   * configured maximum. Records are mapped and emitted in offset order as each page is received.
+   *
+   * <p>When streaming is enabled and no response cache is in use, the records are decoded from each
+   * response body as it arrives rather than after the whole page is received.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request, excluding the offset and limit
+   * @param responseClass the response body type
+   * @param recordClass the record type
+   * @param mapper maps each record to the returned type
+   * @return the mapped records
+   * @param <R> the record type
+   * @param <P> the response body type
+   * @param <E> the mapped record type
+   */
+  protected <R, P extends BaseMarvelResponse<R>, E> Flux<E> doFetchAllRecords(
+      final String path,
+      final String parameters,
+      final Class<P> responseClass,
+      final Class<R> recordClass,
+      final Function<R, E> mapper) {
+    return this.doFetchAllRecords(
+        path, parameters, responseClass, recordClass, mapper, total -> {});
+  }
+
+  /**
+   * Creates the request for every record for a paged endpoint, reporting the total number of
+   * records given in the first page. Records the mapper returns null for are skipped.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request, excluding the offset and limit
+   * @param responseClass the response body type
+   * @param recordClass the record type
+   * @param mapper maps each record to the returned type
+   * @param totalConsumer receives the total number of records available
+   * @return the mapped records
+   * @param <R> the record type
+   * @param <P> the response body type
+   * @param <E> the mapped record type
+   */
+  protected <R, P extends BaseMarvelResponse<R>, E> Flux<E> doFetchAllRecords(
+      final String path,
+      final String parameters,
+      final Class<P> responseClass,
+      final Class<R> recordClass,
+      final Function<R, E> mapper,
+      final IntConsumer totalConsumer) {
+    final Function<R, E> timedMapper = this.doGetMetrics().timeMapping(mapper);
+    if (this.streaming && this.responseCache == null) {
+      return this.doTraceCall(
+          path,
+          Flux.defer(
+              () -> {
+                final AtomicInteger total = new AtomicInteger();
+                return Flux.concat(
+                        this.doStreamPage(
+                            path,
+                            parameters,
+                            0,
+                            recordClass,
+                            count -> {
+                              total.set(count);
+                              totalConsumer.accept(count);
+                            }),
+                        Flux.defer(
+                            () ->
+                                this.doFetchRemainingPages(
+                                    this.doPlanRemainingPages(total.get()),
+                                    offset ->
+                                        this.doStreamPage(
+                                            path, parameters, offset, recordClass, count -> {}))))
+                    .mapNotNull(timedMapper);
+              }));
+    }
 
-    return String.format(
-        URL_FORMAT,
-        this.baseUrl,
+    return this.doTraceCall(
         path,
-        parameters,
-        timestamp,
-        this.getPublicKey(),
-        MarvelAuthorizationAdaptor.getInstance()
-            .getHashForRequest(timestamp, publicKey, privateKey));
+        this.doGetPage(path, parameters, 0, responseClass)
+            .doOnNext(
+                firstPage -> {
+                  if (firstPage.getData().getTotal() != null) {
+                    totalConsumer.accept(firstPage.getData().getTotal());
+                  }
+                })
+            .flatMapMany(
+                firstPage ->
+                    Flux.concat(
+                        Flux.fromIterable(firstPage.getData().getResults()),
+                        this.doFetchRemainingPages(
+                            this.doPlanRemainingPages(firstPage.getData()),
+                            offset ->
+                                this.doGetPage(path, parameters, offset, responseClass)
+                                    .flatMapIterable(page -> page.getData().getResults()))))
+            .mapNotNull(timedMapper));
+  }
+
+  private <R> Flux<R> doFetchRemainingPages(
+      final List<Integer> offsets, final Function<Integer, Publisher<R>> pageLoader) {
+    if (!offsets.isEmpty()) {
+      log.debug(
+          "Fetching {} more page(s): concurrency={}", offsets.size(), this.maxConcurrentPages);
+    }
+    this.doGetMetrics().recordPages(offsets.size() + 1);
+    return Flux.fromIterable(offsets)
+        .flatMapSequential(pageLoader, Math.max(1, this.maxConcurrentPages));
+  }
+
+  /**
+   * Returns the offsets for all pages following the first one.
+   *
+   * @param firstPage the payload from the first page
+   * @return the offsets
+   */
+  List<Integer> doPlanRemainingPages(final MarvelDataPayload<?> firstPage) {
+    return this.doPlanRemainingPages(firstPage.getTotal());
+  }
+
+  /**
+   * Returns the offsets for all pages following the first one.
+   *
+   * @param total the total number of records
+   * @return the offsets
+   */
+  List<Integer> doPlanRemainingPages(final Integer total) {
+    final List<Integer> result = new ArrayList<>();
+    if (total != null) {
+      for (int offset = MAX_PAGE_SIZE; offset < total; offset += MAX_PAGE_SIZE) {
+        result.add(offset);
+      }
+    }
+    log.trace("Planned {} additional page(s): total={}", result.size(), total);
+    return result;
+  }
+
+  /**
+   * Creates the request for a single page of records.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request, excluding the offset and limit
+   * @param offset the page offset
+   * @param responseClass the response body type
+   * @return the request
+   * @param <P> the response body type
+   */
+  protected <P> Mono<P> doGetPage(
+      final String path, final String parameters, final int offset, final Class<P> responseClass) {
+    return this.doGetPage(path, parameters, offset, MAX_PAGE_SIZE, responseClass);
+  }
+
+  /**
+   * Creates the request for a single page of records with the given size.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request, excluding the offset and limit
+   * @param offset the page offset
+   * @param limit the page size
+   * @param responseClass the response body type
+   * @return the request
+   * @param <P> the response body type
+   */
+  protected <P> Mono<P> doGetPage(
+      final String path,
+      final String parameters,
+      final int offset,
+      final int limit,
+      final Class<P> responseClass) {
+    log.trace("Requesting page: path={} offset={} limit={}", path, offset, limit);
+    final String pageParameters =
+        MarvelUrlBuilder.parameters(parameters).page(offset, limit).build();
+    return Mono.deferContextual(
+            context -> {
+              final MarvelTracer.Span span = this.doStartPage(context, path);
+              span.setAttribute(MarvelTracer.ATTRIBUTE_OFFSET, offset);
+              span.setAttribute(MarvelTracer.ATTRIBUTE_LIMIT, limit);
+              return doEndSpan(
+                  this.doLoadResponse(path, pageParameters, responseClass, span), span);
+            })
+        .switchIfEmpty(
+            Mono.error(
+                () -> new MetadataException(String.format("Failed to receive page: %d", offset))));
+  }
+
+  /**
+   * Creates the request for a single page of records, decoding the records as the response body
+   * arrives. If the request fails after records were received, it isn't retried.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request, excluding the offset and limit
+   * @param offset the page offset
+   * @param recordClass the record type
+   * @param totalConsumer receives the total number of records available
+   * @return the request
+   * @param <R> the record type
+   */
+  <R> Flux<R> doStreamPage(
+      final String path,
+      final String parameters,
+      final int offset,
+      final Class<R> recordClass,
+      final IntConsumer totalConsumer) {
+    log.trace("Streaming page: path={} offset={}", path, offset);
+    final String pageParameters =
+        MarvelUrlBuilder.parameters(parameters).page(offset, MAX_PAGE_SIZE).build();
+    return Flux.deferContextual(
+        context -> {
+          final MarvelTracer.Span span = this.doStartPage(context, path);
+          span.setAttribute(MarvelTracer.ATTRIBUTE_OFFSET, offset);
+          span.setAttribute(MarvelTracer.ATTRIBUTE_LIMIT, MAX_PAGE_SIZE);
+          return doEndSpan(
+              this.doStreamPage(path, pageParameters, recordClass, totalConsumer, span), span);
+        });
+  }
+
+  private <R> Flux<R> doStreamPage(
+      final String path,
+      final String pageParameters,
+      final Class<R> recordClass,
+      final IntConsumer totalConsumer,
+      final MarvelTracer.Span span) {
+    final String endpoint = MarvelMetrics.getEndpoint(path);
+    final MarvelMetrics pageMetrics = this.doGetMetrics();
+    final AtomicInteger attempts = new AtomicInteger();
+    final Flux<R> request =
+        Flux.defer(
+            () -> {
+              span.setAttribute(MarvelTracer.ATTRIBUTE_ATTEMPTS, attempts.incrementAndGet());
+              if (attempts.get() > 1) {
+                pageMetrics.recordRetry(endpoint);
+              }
+              final String url = this.doCreateUrl(path, pageParameters);
+              final AtomicInteger received = new AtomicInteger();
+              final AtomicLong bytes = new AtomicLong();
+              final AtomicReference<String> status =
+                  new AtomicReference<>(MarvelMetrics.STATUS_IO_ERROR);
+              final long start = pageMetrics.start();
+              return this.doGetWebClient(url)
+                  .get()
+                  .uri(URI.create(url))
+                  .exchangeToFlux(
+                      response -> {
+                        status.set(String.valueOf(response.statusCode().value()));
+                        span.setAttribute(
+                            MarvelTracer.ATTRIBUTE_STATUS_CODE, response.statusCode().value());
+                        final Mono<? extends Throwable> error =
+                            this.doCheckResponse(response, endpoint);
+                        if (error != null) {
+                          return error.flatMapMany(failure -> Flux.<R>error(failure));
+                        }
+                        return MarvelResultsDecoder.getInstance()
+                            .decode(
+                                response
+                                    .bodyToFlux(DataBuffer.class)
+                                    .doOnNext(
+                                        buffer -> bytes.addAndGet(buffer.readableByteCount())),
+                                recordClass,
+                                totalConsumer);
+                      })
+                  .doOnNext(entry -> received.incrementAndGet())
+                  .doOnComplete(
+                      () -> {
+                        pageMetrics.recordRequest(endpoint, status.get(), start);
+                        pageMetrics.recordResponseBytes(endpoint, bytes.get());
+                        pageMetrics.recordPageRecords(endpoint, received.get());
+                        span.setAttribute(MarvelTracer.ATTRIBUTE_PAYLOAD_SIZE, bytes.get());
+                        span.setAttribute(MarvelTracer.ATTRIBUTE_RECORDS, received.get());
+                      })
+                  .doOnError(error -> pageMetrics.recordRequest(endpoint, status.get(), start))
+                  .onErrorMap(
+                      error -> received.get() > 0 && !(error instanceof MetadataException),
+                      error -> new MetadataException("Response interrupted", error));
+            });
+    final MarvelRateLimiter limiter = this.rateLimiter;
+    final MarvelRetryPolicy policy =
+        this.retryPolicy != null ? this.retryPolicy : MarvelRetryPolicy.NONE;
+    return policy.apply(limiter != null ? limiter.acquire().thenMany(request) : request, path);
+  }
+
+  /**
+   * Creates a request. When a response cache is available, a current cached response is returned if
+   * one exists. Otherwise the request is sent, revalidating any expired cached response using its
+   * etag, and the response is added to the cache.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request
+   * @param responseClass the response body type
+   * @return the request
+   * @param <R> the response body type
+   */
+  protected <R> Mono<R> doGetResponse(
+      final String path, final String parameters, final Class<R> responseClass) {
+    return Mono.deferContextual(
+        context -> {
+          final MarvelTracer.Span span = this.doStartPage(context, path);
+          return doEndSpan(this.doLoadResponse(path, parameters, responseClass, span), span);
+        });
   }
 
-  protected Date getCoverDate(final List<MarvelDate> dates) {
-    return this.findDate("focDate", dates);
+  private <R> Mono<R> doLoadResponse(
+      final String path,
+      final String parameters,
+      final Class<R> responseClass,
+      final MarvelTracer.Span span) {
+    final MarvelResponseCache cache = this.responseCache;
+    if (cache == null) {
+      return this.doSendRequest(path, parameters, responseClass, null, span);
+    }
+
+    final String key = MarvelResponseCache.createKey(path, parameters);
+    final String endpoint = MarvelMetrics.getEndpoint(path);
+    final MarvelMetrics cacheMetrics = this.doGetMetrics();
+    return Mono.fromCallable(() -> cache.load(key, responseClass))
+        .subscribeOn(Schedulers.boundedElastic())
+        .doOnNext(
+            response -> {
+              cacheMetrics.recordCache(endpoint, MarvelMetrics.CACHE_HIT);
+              span.setAttribute(MarvelTracer.ATTRIBUTE_CACHE, MarvelMetrics.CACHE_HIT);
+            })
+        .switchIfEmpty(
+            Mono.defer(
+                () -> {
+                  final R expired = cache.loadExpired(key, responseClass);
+                  return this.doSendRequest(path, parameters, responseClass, expired, span)
+                      .publishOn(Schedulers.boundedElastic())
+                      .doOnNext(
+                          response -> {
+                            if (response == expired) {
+                              cache.refresh(key);
+                              cacheMetrics.recordCache(endpoint, MarvelMetrics.CACHE_REVALIDATED);
+                              span.setAttribute(
+                                  MarvelTracer.ATTRIBUTE_CACHE, MarvelMetrics.CACHE_REVALIDATED);
+                            } else {
+                              cache.store(key, response);
+                              cacheMetrics.recordCache(endpoint, MarvelMetrics.CACHE_MISS);
+                              span.setAttribute(
+                                  MarvelTracer.ATTRIBUTE_CACHE, MarvelMetrics.CACHE_MISS);
+                            }
+                          });
+                }));
   }
 
-  protected Date getStoreDate(final List<MarvelDate> dates) {
-    return this.findDate("onsaleDate", dates);
+  /**
+   * Sends a request. If a previous response is provided, its etag is sent so that Marvel can reply
+   * that the content hasn't changed, in which case the previous response is returned. When a rate
+   * limiter is available, the request waits for it before being sent. Transient failures are
+   * retried using the retry policy, so only the failed request is sent again.
+   *
+   * @param path the url path
+   * @param parameters the parameters for the request
+   * @param responseClass the response body type
+   * @param previous the previous response, or null
+   * @param span the span for the page
+   * @return the request
+   * @param <R> the response body type
+   */
+  <R> Mono<R> doSendRequest(
+      final String path,
+      final String parameters,
+      final Class<R> responseClass,
+      final R previous,
+      final MarvelTracer.Span span) {
+    final String endpoint = MarvelMetrics.getEndpoint(path);
+    final MarvelMetrics requestMetrics = this.doGetMetrics();
+    final AtomicInteger attempts = new AtomicInteger();
+    final Mono<R> request =
+        Mono.defer(
+            () -> {
+              span.setAttribute(MarvelTracer.ATTRIBUTE_ATTEMPTS, attempts.incrementAndGet());
+              if (attempts.get() > 1) {
+                requestMetrics.recordRetry(endpoint);
+              }
+              final String url = this.doCreateUrl(path, parameters);
+              final String etag =
+                  previous instanceof BaseMarvelResponse
+                      ? ((BaseMarvelResponse<?>) previous).getEtag()
+                      : null;
+              final AtomicReference<String> status =
+                  new AtomicReference<>(MarvelMetrics.STATUS_IO_ERROR);
+              final long start = requestMetrics.start();
+              return this.doGetWebClient(url)
+                  .get()
+                  .uri(URI.create(url))
+                  .headers(
+                      headers -> {
+                        if (StringUtils.isNotBlank(etag)) {
+                          headers.setIfNoneMatch(etag);
+                        }
+                      })
+                  .exchangeToMono(
+                      response -> {
+                        status.set(String.valueOf(response.statusCode().value()));
+                        span.setAttribute(
+                            MarvelTracer.ATTRIBUTE_STATUS_CODE, response.statusCode().value());
+                        if (previous != null
+                            && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                          log.trace("Response not modified: path={}", path);
+                          return response.releaseBody().thenReturn(NOT_MODIFIED);
+                        }
+                        final Mono<? extends Throwable> error =
+                            this.doCheckResponse(response, endpoint);
+                        if (error != null) {
+                          return error.flatMap(failure -> Mono.<byte[]>error(failure));
+                        }
+                        return response.bodyToMono(byte[].class);
+                      })
+                  .doOnSuccess(body -> requestMetrics.recordRequest(endpoint, status.get(), start))
+                  .doOnError(error -> requestMetrics.recordRequest(endpoint, status.get(), start))
+                  .map(
+                      body ->
+                          body == NOT_MODIFIED
+                              ? previous
+                              : this.doDecodeResponse(
+                                  requestMetrics, span, endpoint, body, responseClass));
+            });
+    final MarvelRateLimiter limiter = this.rateLimiter;
+    final MarvelRetryPolicy policy =
+        this.retryPolicy != null ? this.retryPolicy : MarvelRetryPolicy.NONE;
+    return policy.apply(limiter != null ? limiter.acquire().then(request) : request, path);
   }
 
-  private Date findDate(final String dateType, final List<MarvelDate> dates) {
-    final Optional<MarvelDate> result =
-        dates.stream().filter(entry -> entry.getType().equals(dateType)).findFirst();
-    if (result.isPresent()) {
-      try {
-        return dateFormat.parse(result.get().getDate());
-      } catch (ParseException error) {
-        log.error("Failed to parse date", error);
+  /**
+   * Decodes a response body. The time spent decoding is recorded separately from the time spent
+   * receiving the body.
+   *
+   * @param requestMetrics the metrics for the request
+   * @param span the span for the page
+   * @param endpoint the endpoint
+   * @param body the response body
+   * @param responseClass the response body type
+   * @return the response
+   * @param <R> the response body type
+   */
+  private <R> R doDecodeResponse(
+      final MarvelMetrics requestMetrics,
+      final MarvelTracer.Span span,
+      final String endpoint,
+      final byte[] body,
+      final Class<R> responseClass) {
+    requestMetrics.recordResponseBytes(endpoint, body.length);
+    span.setAttribute(MarvelTracer.ATTRIBUTE_PAYLOAD_SIZE, body.length);
+    final long start = System.nanoTime();
+    final R result = MarvelResultsDecoder.getInstance().decode(body, responseClass);
+    final long duration = System.nanoTime() - start;
+    requestMetrics.recordDecode(endpoint, duration);
+    span.setAttribute(MarvelTracer.ATTRIBUTE_DECODE_DURATION, duration);
+    if (result instanceof BaseMarvelResponse) {
+      final MarvelDataPayload<?> data = ((BaseMarvelResponse<?>) result).getData();
+      if (data != null && data.getResults() != null) {
+        requestMetrics.recordPageRecords(endpoint, data.getResults().size());
       }
     }
+    return result;
+  }
+
+  /**
+   * Checks the status of a response. A throttled response means the daily quota is exhausted only
+   * when its body says so. Any other throttled response is left to the retry policy.
+   *
+   * @param response the response
+   * @param endpoint the endpoint
+   * @return the error, or null if the response was successful
+   */
+  private Mono<? extends Throwable> doCheckResponse(
+      final ClientResponse response, final String endpoint) {
+    if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+      this.doGetMetrics().recordThrottled(endpoint);
+      return response
+          .createException()
+          .map(
+              error -> {
+                if (!isDailyQuotaExceeded(error.getResponseBodyAsString())) {
+                  return error;
+                }
+                if (this.rateLimiter != null) {
+                  this.rateLimiter.exhaust();
+                }
+                return new MetadataException("Marvel rate limit exceeded");
+              });
+    }
+    if (response.statusCode().isError()) {
+      return response.createException();
+    }
     return null;
   }
+
+  /**
+   * Returns if the body of a throttled response says the daily quota has been used.
+   *
+   * @param body the response body
+   * @return true if the quota is exhausted
+   */
+  static boolean isDailyQuotaExceeded(final String body) {
+    return StringUtils.contains(body, QUOTA_EXCEEDED_CODE)
+        || StringUtils.contains(body, QUOTA_EXCEEDED_MESSAGE);
+  }
+
+  /**
+   * Waits for a response to be received.
+   *
+   * @param request the request
+   * @return the response
+   * @param <R> the response type
+   * @throws MetadataException if no response is received
+   */
+  protected <R> R doBlock(final Mono<R> request) throws MetadataException {
+    final R response = this.doAwait(request);
+
+    if (response == null) {
+      throw new MetadataException("Failed to receive response");
+    }
+
+    return response;
+  }
+
+  /**
+   * Waits for a request to complete, which may be without a response.
+   *
+   * @param request the request
+   * @return the response, or null
+   * @param <R> the response type
+   * @throws MetadataException if the request fails
+   */
+  protected <R> R doAwait(final Mono<R> request) throws MetadataException {
+    try {
+      return request.block();
+    } catch (Exception error) {
+      final Throwable cause = Exceptions.unwrap(error);
+      if (cause instanceof MetadataException) {
+        throw (MetadataException) cause;
+      }
+      throw new MetadataException("Failed to get response", error);
+    }
+  }
 }
@@ -20,19 +20,29 @@ package org.comixedproject.metadata.marvel.actions;
 
 import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptor.PUBLISHER_NAME;
 
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.adaptor.MarvelDateAdaptor;
 import org.comixedproject.metadata.marvel.adaptor.SeriesNameAdaptor;
+import org.comixedproject.metadata.marvel.client.MarvelUrlBuilder;
 import org.comixedproject.metadata.marvel.models.MarvelCreditType;
 import org.comixedproject.metadata.marvel.models.MarvelGetAllIssuesQueryResponse;
+import org.comixedproject.metadata.marvel.models.MarvelSeriesIssueDetailRecord;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 /**
  * <code>MarvelGetAllIssuesAction</code> retrieves the metadata for all comics for a given volume.
@@ -45,73 +55,213 @@ public class MarvelGetAllIssuesAction
   // URL:
   // https://gateway.marvel.com/v1/public/series/2069/comics?noVariants=true&apikey=763df8a7c3c0f6d3bb7fcf088bbf6ee1
 
+  private static final MarvelUrlBuilder URL_BUILDER = new MarvelUrlBuilder("series/%s/comics");
+
+  /**
+   * The sort order for the listing. Only fields that don't change when a comic is edited are used,
+   * so that comics keep their place across the concurrent page requests. Marvel can't sort on the
+   * comic id, so comics that share both fields can still move between pages.
+   */
+  static final String ORDER_BY = "issueNumber,title";
+
+  static final DateTimeFormatter MODIFIED_SINCE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX").withZone(ZoneOffset.UTC);
+
   @Getter @Setter private String seriesId;
 
+  /**
+   * Only returns comics in this format, such as <code>comic</code> or <code>digital comic</code>.
+   */
+  @Getter @Setter private String format;
+
+  /** Only returns comics of this type, either <code>comic</code> or <code>collection</code>. */
+  @Getter @Setter private String formatType;
+
+  /** Only returns comics that were changed after this time. */
+  @Getter @Setter private Date modifiedSince;
+
+  private Date lastModified;
+
+  /** The issues whose details are as complete as those returned for a single comic. */
+  @Getter
+  private final List<IssueDetailsMetadata> completeIssues =
+      Collections.synchronizedList(new ArrayList<>());
+
   @Override
   public List<IssueDetailsMetadata> execute() throws MetadataException {
-    this.doCheckSetup();
-
-    if (StringUtils.isBlank(this.seriesId)) throw new MetadataException("Missing series id");
-
-    final List<IssueDetailsMetadata> result = new ArrayList<>();
-    boolean done = false;
-
-    while (!done) {
-      log.trace("Generating request URL: series id={}", this.seriesId);
-      final String url =
-          this.doCreateUrl(String.format("series/%s/comics", this.seriesId), "noVariants=true");
-      final WebClient client = this.createWebClient(url);
-      final Mono<MarvelGetAllIssuesQueryResponse> request =
-          client.get().uri(url).retrieve().bodyToMono(MarvelGetAllIssuesQueryResponse.class);
-      MarvelGetAllIssuesQueryResponse response = null;
-
-      try {
-        response = request.block();
-      } catch (Exception error) {
-        throw new MetadataException("Failed to get response", error);
-      }
-
-      if (response == null) {
-        throw new MetadataException("Failed to receive response");
-      }
-
-      log.debug("Received: {} volume(s)", response.getData().getResults().size());
-      response
-          .getData()
-          .getResults()
-          .forEach(
-              issue -> {
-                log.trace("Processing volume record: {} name={}", issue.getId(), issue.getTitle());
-                final IssueDetailsMetadata entry = new IssueDetailsMetadata();
-                entry.setSourceId(issue.getId());
-                entry.setPublisher(PUBLISHER_NAME);
-                final SeriesNameAdaptor.SeriesDetail seriesDetails =
-                    SeriesNameAdaptor.getInstance().execute(issue.getSeries().getName());
-                entry.setSeries(seriesDetails.getName());
-                entry.setVolume(seriesDetails.getStartYear());
-                entry.setIssueNumber(issue.getIssueNumber());
-                issue
-                    .getCreators()
-                    .getItems()
-                    .forEach(
-                        credit ->
-                            entry
-                                .getCredits()
-                                .add(
-                                    new IssueDetailsMetadata.CreditEntry(
-                                        credit.getName(),
-                                        MarvelCreditType.forValue(credit.getRole())
-                                            .getTagType()
-                                            .getValue())));
-                entry.setTitle(issue.getTitle());
-                entry.setCoverDate(this.getCoverDate(issue.getDates()));
-                entry.setStoreDate(this.getStoreDate(issue.getDates()));
-                result.add(entry);
-              });
-      done = isDone(response);
+    final List<IssueDetailsMetadata> result = this.doBlock(this.executeReactive().collectList());
+    log.debug("Returning {} issue(s)", result.size());
+    return result;
+  }
+
+  /**
+   * Retrieves the metadata for all comics for the volume. Each issue is emitted once the page
+   * containing it has been received.
+   *
+   * @return the issues
+   */
+  public Flux<IssueDetailsMetadata> executeReactive() {
+    return Flux.defer(
+        () -> {
+          try {
+            this.doCheckSetup();
+            if (StringUtils.isBlank(this.seriesId))
+              throw new MetadataException("Missing series id");
+          } catch (MetadataException error) {
+            return Flux.error(error);
+          }
+
+          log.trace("Loading all pages: series id={}", this.seriesId);
+          final Set<String> received = ConcurrentHashMap.newKeySet();
+          final AtomicInteger total = new AtomicInteger();
+          // a comic that moves between pages while they're being fetched can be returned twice,
+          // which is skipped, or not at all, in which case the listing is fetched once more
+          return Flux.concat(
+              this.doFetchListing(received, total::set),
+              Flux.defer(
+                  () -> {
+                    if (received.size() >= total.get()) {
+                      return Flux.empty();
+                    }
+                    log.debug(
+                        "Comics missing from listing: received={} total={}",
+                        received.size(),
+                        total.get());
+                    return this.doFetchListing(received, count -> {});
+                  }));
+        });
+  }
+
+  private Flux<IssueDetailsMetadata> doFetchListing(
+      final Set<String> received, final IntConsumer totalConsumer) {
+    return this.doFetchAllRecords(
+        URL_BUILDER.path(this.seriesId),
+        this.doCreateParameters(),
+        MarvelGetAllIssuesQueryResponse.class,
+        MarvelSeriesIssueDetailRecord.class,
+        issue -> received.add(issue.getId()) ? this.doCreateIssueDetails(issue) : null,
+        totalConsumer);
+  }
+
+  /**
+   * Returns the parameters for the listing. Comics are sorted on {@link #ORDER_BY} so that pages
+   * fetched at the same time don't overlap, and are filtered on the server when a format or
+   * modification time is set.
+   *
+   * @return the parameters
+   */
+  String doCreateParameters() {
+    final MarvelUrlBuilder.Parameters result =
+        MarvelUrlBuilder.parameters().add("noVariants", "true").add("orderBy", ORDER_BY);
+    if (StringUtils.isNotBlank(this.format)) {
+      result.add("format", this.format);
+    }
+    if (StringUtils.isNotBlank(this.formatType)) {
+      result.add("formatType", this.formatType);
     }
+    if (this.modifiedSince != null) {
+      result.add("modifiedSince", MODIFIED_SINCE_FORMAT.format(this.modifiedSince.toInstant()));
+    }
+    return result.build();
+  }
 
-    log.debug("Returning {} volume(s)", result.size());
-    return result;
+  /**
+   * Maps a single record from the listing, tracking its modification time and whether its details
+   * are complete.
+   *
+   * @param issue the record
+   * @return the issue details
+   */
+  IssueDetailsMetadata doCreateIssueDetails(final MarvelSeriesIssueDetailRecord issue) {
+    log.trace("Processing issue record: {} name={}", issue.getId(), issue.getTitle());
+    final IssueDetailsMetadata entry = doMapIssueDetails(issue);
+    this.doUpdateLastModified(MarvelDateAdaptor.getInstance().parse(issue.getModified()));
+    if (this.doHasAllDetails(issue)) {
+      this.completeIssues.add(entry);
+    }
+    return entry;
+  }
+
+  /**
+   * Maps a single record from the listing to its issue details, without changing the action.
+   *
+   * @param issue the record
+   * @return the issue details
+   */
+  static IssueDetailsMetadata doMapIssueDetails(final MarvelSeriesIssueDetailRecord issue) {
+    final IssueDetailsMetadata entry = new IssueDetailsMetadata();
+    entry.setSourceId(issue.getId());
+    entry.setPublisher(PUBLISHER_NAME);
+    final SeriesNameAdaptor.SeriesDetail seriesDetails =
+        SeriesNameAdaptor.getInstance().execute(issue.getSeries().getName());
+    entry.setSeries(seriesDetails.getName());
+    entry.setVolume(seriesDetails.getStartYear());
+    entry.setIssueNumber(issue.getIssueNumber());
+    issue
+        .getCreators()
+        .getItems()
+        .forEach(
+            credit ->
+                entry
+                    .getCredits()
+                    .add(
+                        new IssueDetailsMetadata.CreditEntry(
+                            credit.getName(),
+                            MarvelCreditType.forValue(credit.getRole()).getTagType().getValue())));
+    entry.setTitle(issue.getTitle());
+    final MarvelDateAdaptor.DateDetail dates =
+        MarvelDateAdaptor.getInstance().execute(issue.getDates());
+    entry.setCoverDate(dates.getCoverDate());
+    entry.setStoreDate(dates.getStoreDate());
+    entry.setDescription(issue.getDescription());
+    if (issue.getCharacters() != null && issue.getCharacters().getItems() != null) {
+      issue
+          .getCharacters()
+          .getItems()
+          .forEach(character -> entry.getCharacters().add(character.getName()));
+    }
+    if (issue.getStories() != null && issue.getStories().getStories() != null) {
+      issue.getStories().getStories().forEach(story -> entry.getStories().add(story.getName()));
+    }
+    if (issue.getUrls() != null) {
+      issue.getUrls().stream()
+          .filter(url -> "detail".equals(url.getType()))
+          .findFirst()
+          .ifPresent(url -> entry.setWebAddress(url.getUrl()));
+    }
+    return entry;
+  }
+
+  /**
+   * Returns the time to use as the <code>modifiedSince</code> for the next sync: the latest
+   * modification time of the comics returned, or the current value if none were newer. Comics
+   * changed at exactly this time may be returned again by the next sync.
+   *
+   * @return the time, or null if neither is known
+   */
+  public synchronized Date getHighWaterMark() {
+    if (this.lastModified == null
+        || (this.modifiedSince != null && this.modifiedSince.after(this.lastModified))) {
+      return this.modifiedSince;
+    }
+    return this.lastModified;
+  }
+
+  private synchronized void doUpdateLastModified(final Date modified) {
+    if (modified != null && (this.lastModified == null || modified.after(this.lastModified))) {
+      this.lastModified = modified;
+    }
+  }
+
+  private boolean doHasAllDetails(final MarvelSeriesIssueDetailRecord issue) {
+    return issue.getCharacters() != null
+        && issue.getCharacters().getItems() != null
+        && issue.getStories() != null
+        && issue.getStories().getStories() != null;
+  }
+
+  @Override
+  protected MarvelUrlBuilder doGetUrlBuilder() {
+    return URL_BUILDER;
   }
 }
@@ -18,16 +18,17 @@
 
 package org.comixedproject.metadata.marvel.actions;
 
-import java.util.ArrayList;
 import java.util.List;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.adaptor.MarvelDateAdaptor;
+import org.comixedproject.metadata.marvel.client.MarvelUrlBuilder;
 import org.comixedproject.metadata.marvel.models.MarvelGetIssueQueryResponse;
+import org.comixedproject.metadata.marvel.models.MarvelGetIssueRecord;
 import org.comixedproject.metadata.model.IssueMetadata;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 /**
  * <code>AbstractMarvelScrapingAction</code> retrieves a single issue from Marvel's online service.
@@ -39,63 +40,67 @@ public class MarvelGetIssueAction extends AbstractMarvelScrapingAction<List<Issu
   // URL:
   // https://gateway.marvel.com/v1/public/series/SERIES_NUMBER/comics?issueNumber=ISSUE_NUMBER&orderBy=issueNumber&limit=100&offset=1&apikey=APIKEY
 
+  private static final MarvelUrlBuilder URL_BUILDER = new MarvelUrlBuilder("series/%s/comics");
+
   @Setter private String series;
   @Setter private String issueNumber;
 
   @Override
   public List<IssueMetadata> execute() throws MetadataException {
-    this.doCheckSetup();
-
-    if (StringUtils.isBlank(this.series)) throw new MetadataException("Missing series");
-    if (StringUtils.isBlank(this.issueNumber)) throw new MetadataException("Missing issue number");
-    boolean done = false;
-    final List<IssueMetadata> result = new ArrayList<>();
-
-    while (!done) {
-      final String url =
-          this.doCreateUrl(
-              String.format("series/%s/comics", this.series),
-              String.format("noVariants=true&formatType=comic&issueNumber=%s", this.issueNumber));
-
-      final WebClient client = this.createWebClient(url);
-      final Mono<MarvelGetIssueQueryResponse> request =
-          client.get().uri(url).retrieve().bodyToMono(MarvelGetIssueQueryResponse.class);
-      MarvelGetIssueQueryResponse response = null;
-
-      try {
-        response = request.block();
-      } catch (Exception error) {
-        throw new MetadataException("Failed to get response", error);
-      }
+    return this.doBlock(this.executeReactive().collectList());
+  }
 
-      if (response == null) {
-        throw new MetadataException("Failed to receive response");
-      }
+  /**
+   * Retrieves the matching issues. Each issue is emitted once the page containing it has been
+   * received.
+   *
+   * @return the issues
+   */
+  public Flux<IssueMetadata> executeReactive() {
+    return Flux.defer(
+        () -> {
+          try {
+            this.doCheckSetup();
+            if (StringUtils.isBlank(this.series)) throw new MetadataException("Missing series");
+            if (StringUtils.isBlank(this.issueNumber))
+              throw new MetadataException("Missing issue number");
+          } catch (MetadataException error) {
+            return Flux.error(error);
+          }
 
-      response
-          .getData()
-          .getResults()
-          .forEach(
-              issue -> {
-                final IssueMetadata metadata = new IssueMetadata();
-                metadata.setId(issue.getId());
-                metadata.setVolumeId(this.series);
-                metadata.setName(issue.getSeries().getName());
-                metadata.setVolumeName(issue.getSeries().getName());
-                metadata.setIssueNumber(issue.getIssueNumber());
-                metadata.setDescription(issue.getDescription());
-                metadata.setCoverDate(this.getCoverDate(issue.getDates()));
-                metadata.setStoreDate(this.getStoreDate(issue.getDates()));
-                metadata.setCoverUrl(
-                    String.format(
-                        "%s.%s",
-                        issue.getThumbnail().getPath(), issue.getThumbnail().getExtension()));
-                result.add(metadata);
-              });
+          return this.doFetchAllRecords(
+              URL_BUILDER.path(this.series),
+              MarvelUrlBuilder.parameters()
+                  .add("noVariants", "true")
+                  .add("formatType", "comic")
+                  .add("issueNumber", this.issueNumber)
+                  .build(),
+              MarvelGetIssueQueryResponse.class,
+              MarvelGetIssueRecord.class,
+              this::doCreateIssue);
+        });
+  }
 
-      done = this.isDone(response);
-    }
+  private IssueMetadata doCreateIssue(final MarvelGetIssueRecord issue) {
+    final IssueMetadata metadata = new IssueMetadata();
+    metadata.setId(issue.getId());
+    metadata.setVolumeId(this.series);
+    metadata.setName(issue.getSeries().getName());
+    metadata.setVolumeName(issue.getSeries().getName());
+    metadata.setIssueNumber(issue.getIssueNumber());
+    metadata.setDescription(issue.getDescription());
+    final MarvelDateAdaptor.DateDetail dates =
+        MarvelDateAdaptor.getInstance().execute(issue.getDates());
+    metadata.setCoverDate(dates.getCoverDate());
+    metadata.setStoreDate(dates.getStoreDate());
+    metadata.setCoverUrl(
+        String.format(
+            "%s.%s", issue.getThumbnail().getPath(), issue.getThumbnail().getExtension()));
+    return metadata;
+  }
 
-    return result;
+  @Override
+  protected MarvelUrlBuilder doGetUrlBuilder() {
+    return URL_BUILDER;
   }
 }
@@ -25,13 +25,14 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.comixedproject.metadata.MetadataException;
 import org.comixedproject.metadata.marvel.MarvelMetadataAdaptor;
+import org.comixedproject.metadata.marvel.adaptor.MarvelDateAdaptor;
 import org.comixedproject.metadata.marvel.adaptor.SeriesNameAdaptor;
+import org.comixedproject.metadata.marvel.client.MarvelUrlBuilder;
 import org.comixedproject.metadata.marvel.models.MarvelCreditType;
 import org.comixedproject.metadata.marvel.models.MarvelGetIssueQueryResponse;
 import org.comixedproject.metadata.marvel.models.MarvelGetIssueRecord;
 import org.comixedproject.metadata.marvel.models.MarvelUrl;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 /**
@@ -43,48 +44,72 @@ import reactor.core.publisher.Mono;
 @Log4j2
 public class MarvelGetIssueDetailsAction
     extends AbstractMarvelScrapingAction<IssueDetailsMetadata> {
+  private static final MarvelUrlBuilder URL_BUILDER = new MarvelUrlBuilder("comics/%s");
+
   @Getter @Setter private String comicId;
 
+  /** The id of the series for the comic, set once its details are received. */
+  @Getter private String seriesId;
+
   @Override
   public IssueDetailsMetadata execute() throws MetadataException {
-    this.doCheckSetup();
-
-    if (StringUtils.isBlank(this.comicId)) throw new MetadataException("Missing comic id");
-
-    final String url = this.doCreateUrl(String.format("comics/%s", this.comicId), "");
-
-    final WebClient client = this.createWebClient(url);
-    final Mono<MarvelGetIssueQueryResponse> request =
-        client.get().uri(url).retrieve().bodyToMono(MarvelGetIssueQueryResponse.class);
-    MarvelGetIssueQueryResponse response = null;
+    return this.doAwait(this.executeReactive());
+  }
 
-    try {
-      response = request.block();
-    } catch (Exception error) {
-      throw new MetadataException("Failed to get response", error);
-    }
+  /**
+   * Retrieves the details for the comic. Completes without a value if the comic isn't found.
+   *
+   * @return the details
+   */
+  public Mono<IssueDetailsMetadata> executeReactive() {
+    return Mono.defer(
+        () -> {
+          try {
+            this.doCheckSetup();
+            if (StringUtils.isBlank(this.comicId)) throw new MetadataException("Missing comic id");
+          } catch (MetadataException error) {
+            return Mono.error(error);
+          }
 
-    if (response == null) {
-      throw new MetadataException("Failed to receive response");
-    }
-
-    if (response.getData().getResults().isEmpty()) {
-      log.info("No records found");
-      return null;
-    }
+          final String path = URL_BUILDER.path(this.comicId);
+          return this.doTraceCall(
+              path,
+              this.doGetResponse(path, "", MarvelGetIssueQueryResponse.class)
+                  .switchIfEmpty(
+                      Mono.error(() -> new MetadataException("Failed to receive response")))
+                  .flatMap(
+                      response -> {
+                        if (response.getData().getResults().isEmpty()) {
+                          log.info("No records found");
+                          return Mono.empty();
+                        }
+                        log.debug(
+                            "Loading details from first of {} record(s)",
+                            response.getData().getResults().size());
+                        return Mono.just(
+                            this.doGetMetrics()
+                                .timeMapping(this::doCreateIssueDetails)
+                                .apply(response.getData().getResults().get(0)));
+                      }));
+        });
+  }
 
-    log.debug("Loading details from first of {} record(s)", response.getData().getResults().size());
-    final MarvelGetIssueRecord detail = response.getData().getResults().get(0);
+  private IssueDetailsMetadata doCreateIssueDetails(final MarvelGetIssueRecord detail) {
     final IssueDetailsMetadata result = new IssueDetailsMetadata();
     result.setSourceId(detail.getId());
+    if (StringUtils.isNotBlank(detail.getSeries().getResourceURI())) {
+      this.seriesId = StringUtils.substringAfterLast(detail.getSeries().getResourceURI(), "/");
+    }
     result.setPublisher(MarvelMetadataAdaptor.PUBLISHER_NAME);
     final SeriesNameAdaptor.SeriesDetail seriesDetails =
         SeriesNameAdaptor.getInstance().execute(detail.getSeries().getName());
     result.setSeries(seriesDetails.getName());
     result.setVolume(seriesDetails.getStartYear());
     result.setIssueNumber(detail.getIssueNumber());
-    result.setCoverDate(this.getCoverDate(detail.getDates()));
-    result.setStoreDate(this.getStoreDate(detail.getDates()));
+    final MarvelDateAdaptor.DateDetail dates =
+        MarvelDateAdaptor.getInstance().execute(detail.getDates());
+    result.setCoverDate(dates.getCoverDate());
+    result.setStoreDate(dates.getStoreDate());
     result.setDescription(detail.getDescription());
     detail
         .getCreators()
@@ -109,4 +134,9 @@ public class MarvelGetIssueDetailsAction
     }
     return result;
   }
+
+  @Override
+  protected MarvelUrlBuilder doGetUrlBuilder() {
+    return URL_BUILDER;
+  }
 }
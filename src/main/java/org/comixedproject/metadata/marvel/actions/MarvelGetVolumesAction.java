@@ -22,15 +22,19 @@ import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptor.PUBLISHER
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.comixedproject.metadata.MetadataException;
 import org.comixedproject.metadata.marvel.adaptor.SeriesNameAdaptor;
+import org.comixedproject.metadata.marvel.client.MarvelUrlBuilder;
 import org.comixedproject.metadata.marvel.models.MarvelGetVolumesQueryResponse;
+import org.comixedproject.metadata.marvel.models.MarvelGetVolumesRecord;
 import org.comixedproject.metadata.model.VolumeMetadata;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -43,70 +47,110 @@ public class MarvelGetVolumesAction extends AbstractMarvelScrapingAction<List<Vo
   // The URL looks like:
   // https://gateway.marvel.com/v1/public/series?titleStartsWith=SERIES&ts=TIMESTAMP&apikey=APIKEY&hash=KEY
 
+  private static final MarvelUrlBuilder URL_BUILDER = new MarvelUrlBuilder("series");
+
   @Getter @Setter private String series;
   @Getter @Setter private Integer maxRecords = Integer.MAX_VALUE;
 
   @Override
   public List<VolumeMetadata> execute() throws MetadataException {
-    this.doCheckSetup();
-
-    if (StringUtils.isBlank(this.series)) throw new MetadataException("Missing series");
-
-    final List<VolumeMetadata> result = new ArrayList<>();
-    boolean done = false;
-
-    while (!done) {
-      log.trace("Generating request URL: series={}", this.series);
-      final String url =
-          this.doCreateUrl("series", String.format("titleStartsWith=%s", this.series));
-      final WebClient client = this.createWebClient(url);
-      final Mono<MarvelGetVolumesQueryResponse> request =
-          client.get().uri(url).retrieve().bodyToMono(MarvelGetVolumesQueryResponse.class);
-      MarvelGetVolumesQueryResponse response = null;
+    return this.doBlock(this.executeReactive().collectList());
+  }
 
-      try {
-        response = request.block();
-      } catch (Exception error) {
-        throw new MetadataException("Failed to get response", error);
-      }
+  /**
+   * Retrieves the candidate volumes. Each volume is emitted once the page containing it has been
+   * received, and pages are requested until the maximum number of records has been received.
+   *
+   * @return the volumes
+   */
+  public Flux<VolumeMetadata> executeReactive() {
+    return Flux.defer(
+        () -> {
+          try {
+            this.doCheckSetup();
+            if (StringUtils.isBlank(this.series)) throw new MetadataException("Missing series");
+          } catch (MetadataException error) {
+            return Flux.error(error);
+          }
 
-      if (response == null) {
-        throw new MetadataException("Failed to receive response");
-      }
+          if (this.maxRecords <= 0) {
+            return Flux.empty();
+          }
+          final Function<MarvelGetVolumesRecord, VolumeMetadata> mapper =
+              this.doGetMetrics().timeMapping(this::doCreateVolume);
+          final String parameters =
+              MarvelUrlBuilder.parameters()
+                  .add("titleStartsWith", this.series)
+                  .add("orderBy", "title")
+                  .build();
+          final AtomicInteger received = new AtomicInteger();
+          final AtomicInteger pages = new AtomicInteger();
+          return this.doTraceCall(
+              URL_BUILDER.path(),
+              this.doGetVolumes(parameters, 0, mapper, received, pages)
+                  .doOnComplete(
+                      () -> {
+                        if (pages.get() > 0) {
+                          this.doGetMetrics().recordPages(pages.get());
+                        }
+                        log.debug("Returning {} volume(s)", received.get());
+                      }));
+        });
+  }
 
-      log.debug("Received: {} volume(s)", response.getData().getCount());
-      response
-          .getData()
-          .getResults()
-          .forEach(
-              volume -> {
-                if (canAddMoreResult(result)) {
-                  log.trace(
-                      "Processing volume record: {} name={}", volume.getId(), volume.getTitle());
-                  final VolumeMetadata entry = new VolumeMetadata();
-                  entry.setId(volume.getId());
-                  entry.setPublisher(PUBLISHER_NAME);
-                  final SeriesNameAdaptor.SeriesDetail seriesDetails =
-                      SeriesNameAdaptor.getInstance().execute(volume.getTitle());
-                  entry.setName(seriesDetails.getName());
-                  entry.setStartYear(seriesDetails.getStartYear());
-                  entry.setIssueCount(volume.getComics().getAvailable());
-                  entry.setImageURL(
-                      String.format(
-                          "%s.%s",
-                          volume.getThumbnail().getPath(), volume.getThumbnail().getExtension()));
-                  result.add(entry);
-                }
-              });
-      done = !canAddMoreResult(result) || isDone(response);
-    }
+  private Flux<VolumeMetadata> doGetVolumes(
+      final String parameters,
+      final int offset,
+      final Function<MarvelGetVolumesRecord, VolumeMetadata> mapper,
+      final AtomicInteger received,
+      final AtomicInteger pages) {
+    final int limit = Math.min(this.maxRecords - received.get(), MAX_PAGE_SIZE);
+    log.trace("Generating request URL: series={} offset={} limit={}", this.series, offset, limit);
+    return this.doGetPage(
+            URL_BUILDER.path(), parameters, offset, limit, MarvelGetVolumesQueryResponse.class)
+        .switchIfEmpty(Mono.error(() -> new MetadataException("Failed to receive response")))
+        .flatMapMany(
+            response -> {
+              pages.incrementAndGet();
+              final List<MarvelGetVolumesRecord> volumes = response.getData().getResults();
+              log.debug("Received: {} volume(s)", volumes.size());
+              final List<VolumeMetadata> result = new ArrayList<>();
+              for (int index = 0;
+                  index < volumes.size() && received.get() < this.maxRecords;
+                  index++) {
+                result.add(mapper.apply(volumes.get(index)));
+                received.incrementAndGet();
+              }
+              if (volumes.isEmpty() || received.get() >= this.maxRecords || isDone(response)) {
+                return Flux.fromIterable(result);
+              }
+              return Flux.concat(
+                  Flux.fromIterable(result),
+                  Flux.defer(
+                      () ->
+                          this.doGetVolumes(
+                              parameters, offset + volumes.size(), mapper, received, pages)));
+            });
+  }
 
-    log.debug("Returning {} volume(s)", result.size());
-    return result;
+  private VolumeMetadata doCreateVolume(final MarvelGetVolumesRecord volume) {
+    log.trace("Processing volume record: {} name={}", volume.getId(), volume.getTitle());
+    final VolumeMetadata entry = new VolumeMetadata();
+    entry.setId(volume.getId());
+    entry.setPublisher(PUBLISHER_NAME);
+    final SeriesNameAdaptor.SeriesDetail seriesDetails =
+        SeriesNameAdaptor.getInstance().execute(volume.getTitle());
+    entry.setName(seriesDetails.getName());
+    entry.setStartYear(seriesDetails.getStartYear());
+    entry.setIssueCount(volume.getComics().getAvailable());
+    entry.setImageURL(
+        String.format(
+            "%s.%s", volume.getThumbnail().getPath(), volume.getThumbnail().getExtension()));
+    return entry;
   }
 
-  private boolean canAddMoreResult(final List<VolumeMetadata> result) {
-    log.trace("Checking that {} is less than {}", result.size(), this.maxRecords);
-    return result.size() < this.maxRecords;
+  @Override
+  protected MarvelUrlBuilder doGetUrlBuilder() {
+    return URL_BUILDER;
   }
 }
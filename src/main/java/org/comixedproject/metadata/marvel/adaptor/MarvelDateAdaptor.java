@@ -0,0 +1,103 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.adaptor;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.metadata.marvel.models.MarvelDate;
+
+/**
+ * <code>MarvelDateAdaptor</code> extracts the cover and store dates from the list of dates for an
+ * issue.
+ *
+ * @author Darryl L. Pierce
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+public class MarvelDateAdaptor {
+  static final String COVER_DATE_TYPE = "focDate";
+  static final String STORE_DATE_TYPE = "onsaleDate";
+
+  @Getter private static final MarvelDateAdaptor instance = new MarvelDateAdaptor();
+  private final DateTimeFormatter dateFormat =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ssZ");
+
+  /**
+   * Extracts the cover and store dates in a single pass over the dates.
+   *
+   * @param dates the issue dates
+   * @return the date details
+   */
+  public DateDetail execute(final List<MarvelDate> dates) {
+    Date coverDate = null;
+    Date storeDate = null;
+
+    if (dates != null) {
+      for (int index = 0; index < dates.size(); index++) {
+        final MarvelDate entry = dates.get(index);
+        if (coverDate == null && COVER_DATE_TYPE.equals(entry.getType())) {
+          coverDate = this.doParseDate(entry.getDate());
+        } else if (storeDate == null && STORE_DATE_TYPE.equals(entry.getType())) {
+          storeDate = this.doParseDate(entry.getDate());
+        }
+      }
+    }
+
+    return new DateDetail(coverDate, storeDate);
+  }
+
+  /**
+   * Parses a single date as returned by Marvel.
+   *
+   * @param date the date
+   * @return the date, or null if it is undefined or can't be parsed
+   */
+  public Date parse(final String date) {
+    return this.doParseDate(date);
+  }
+
+  private Date doParseDate(final String date) {
+    // Marvel uses a negative year (-0001-11-30) when a date is unknown
+    if (date == null || date.isEmpty() || date.charAt(0) == '-') {
+      log.trace("Skipping undefined date: {}", date);
+      return null;
+    }
+    try {
+      return Date.from(OffsetDateTime.parse(date, this.dateFormat).toInstant());
+    } catch (DateTimeParseException error) {
+      log.error("Failed to parse date: {}", date, error);
+      return null;
+    }
+  }
+
+  /** <code>DateDetail</code> contains the dates found for an issue. */
+  @AllArgsConstructor
+  public static class DateDetail {
+    @Getter private final Date coverDate;
+    @Getter private final Date storeDate;
+  }
+}
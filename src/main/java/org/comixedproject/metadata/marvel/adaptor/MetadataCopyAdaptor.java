@@ -0,0 +1,112 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.adaptor;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+import org.comixedproject.metadata.model.VolumeMetadata;
+
+/**
+ * <code>MetadataCopyAdaptor</code> creates copies of the metadata held in memory, so that callers
+ * can change what they are given without changing what is cached.
+ *
+ * @author Darryl L. Pierce
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetadataCopyAdaptor {
+  @Getter private static final MetadataCopyAdaptor instance = new MetadataCopyAdaptor();
+
+  /**
+   * Copies the details for an issue.
+   *
+   * @param details the details
+   * @return the copy
+   */
+  public IssueDetailsMetadata copyIssueDetails(final IssueDetailsMetadata details) {
+    if (details == null) {
+      return null;
+    }
+    final IssueDetailsMetadata result = new IssueDetailsMetadata();
+    result.setSourceId(details.getSourceId());
+    result.setPublisher(details.getPublisher());
+    result.setSeries(details.getSeries());
+    result.setVolume(details.getVolume());
+    result.setIssueNumber(details.getIssueNumber());
+    result.setTitle(details.getTitle());
+    result.setDescription(details.getDescription());
+    result.setWebAddress(details.getWebAddress());
+    result.setCoverDate(this.doCopyDate(details.getCoverDate()));
+    result.setStoreDate(this.doCopyDate(details.getStoreDate()));
+    result.getCredits().addAll(details.getCredits());
+    result.getCharacters().addAll(details.getCharacters());
+    result.getTeams().addAll(details.getTeams());
+    result.getLocations().addAll(details.getLocations());
+    result.getStories().addAll(details.getStories());
+    return result;
+  }
+
+  /**
+   * Copies a list of issue details.
+   *
+   * @param details the details
+   * @return the copies
+   */
+  public List<IssueDetailsMetadata> copyAllIssueDetails(final List<IssueDetailsMetadata> details) {
+    return details.stream().map(this::copyIssueDetails).collect(Collectors.toList());
+  }
+
+  /**
+   * Copies a volume.
+   *
+   * @param volume the volume
+   * @return the copy
+   */
+  public VolumeMetadata copyVolume(final VolumeMetadata volume) {
+    if (volume == null) {
+      return null;
+    }
+    final VolumeMetadata result = new VolumeMetadata();
+    result.setId(volume.getId());
+    result.setName(volume.getName());
+    result.setStartYear(volume.getStartYear());
+    result.setImageURL(volume.getImageURL());
+    result.setPublisher(volume.getPublisher());
+    result.setIssueCount(volume.getIssueCount());
+    return result;
+  }
+
+  /**
+   * Copies a list of volumes.
+   *
+   * @param volumes the volumes
+   * @return the copies
+   */
+  public List<VolumeMetadata> copyVolumes(final List<VolumeMetadata> volumes) {
+    return volumes.stream().map(this::copyVolume).collect(Collectors.toList());
+  }
+
+  private Date doCopyDate(final Date date) {
+    return date != null ? new Date(date.getTime()) : null;
+  }
+}
@@ -18,6 +18,9 @@
 
 package org.comixedproject.metadata.marvel.adaptor;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.AccessLevel;
@@ -27,23 +30,68 @@ import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
- * <code>SeriesNameAdaptor</code> extracts details from the provided series name.
+ * <code>SeriesNameAdaptor</code> extracts details from the provided series name. Since every issue
+ * in a series has the same name, the details for recently seen names are kept and returned again
+ * without parsing the name. The cache is read without locking, so pages decoded at the same time
+ * don't wait on each other, and it is emptied once full rather than tracking which name was used
+ * least recently.
  *
  * @author Darryl L. Pierce
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Log4j2
 public class SeriesNameAdaptor {
+  /** The maximum number of series names whose details are kept. */
+  public static final int CACHE_SIZE = 256;
+
   @Getter private static final SeriesNameAdaptor instance = new SeriesNameAdaptor();
   private final Pattern pattern = Pattern.compile("^(.+) \\(([\\d]{4}).*\\)");
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final Map<String, SeriesDetail> cache = new ConcurrentHashMap<>();
 
   /**
    * Extracts the series name, start year, and optional end year from the series detail.
    *
    * @param series the series detail
-   * @return
+   * @return the details, shared by all callers with the same series
    */
   public SeriesDetail execute(final String series) {
+    final SeriesDetail cached = this.cache.get(series);
+    if (cached != null) {
+      this.hitCount.incrementAndGet();
+      return cached;
+    }
+
+    this.missCount.incrementAndGet();
+    final SeriesDetail result = this.doParse(series);
+    if (this.cache.size() >= CACHE_SIZE) {
+      log.trace("Series name cache is full: clearing");
+      this.cache.clear();
+    }
+    final SeriesDetail existing = this.cache.putIfAbsent(series, result);
+    return existing != null ? existing : result;
+  }
+
+  /**
+   * Returns the number of series names whose details were already known.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return this.hitCount.get();
+  }
+
+  /**
+   * Returns the number of series names that had to be parsed.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return this.missCount.get();
+  }
+
+  SeriesDetail doParse(final String series) {
     log.debug("Extracting details from series: {}", series);
     final Matcher matches = this.pattern.matcher(series);
     if (matches.find()) {
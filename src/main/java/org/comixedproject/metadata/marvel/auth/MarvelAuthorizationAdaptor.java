@@ -22,11 +22,11 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.util.DigestUtils;
 
 /**
  * <code>MarvelAuthorizationAdaptor</code> provides code for generating the authorization hash used
- * by Marvel's online service.
+ * by Marvel's online service. Requests made repeatedly with the same keys should use a {@link
+ * MarvelRequestSigner} instead.
  *
  * @author Darryl L. Pierce
  */
@@ -46,12 +46,7 @@ public class MarvelAuthorizationAdaptor {
    */
   public String getHashForRequest(
       final long timestamp, final String publicKey, final String privateKey) {
-    log.debug(
-        "Generating hashh for request: timestamp={} publicKey={} privateKey={}",
-        timestamp,
-        publicKey,
-        privateKey);
-    return DigestUtils.md5DigestAsHex(
-        String.format("%s%s%s", String.valueOf(timestamp), privateKey, publicKey).getBytes());
+    log.trace("Generating hash for request: timestamp={}", timestamp);
+    return new MarvelRequestSigner(publicKey, privateKey).getHash(timestamp);
   }
 }
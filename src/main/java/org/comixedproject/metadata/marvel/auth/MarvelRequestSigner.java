@@ -0,0 +1,158 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>MarvelRequestSigner</code> creates the timestamp and hash that authorize a request to
+ * Marvel's online service for one key pair. Marvel accepts any timestamp as long as the hash
+ * matches it, so requests made within the same interval share a signature rather than each hashing
+ * a new one. Hashes are computed with a digest and buffers kept for each thread.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelRequestSigner {
+  /** The default time, in milliseconds, during which a signature is reused. */
+  public static final long DEFAULT_INTERVAL = 1000L;
+
+  private static final int MAX_TIMESTAMP_DIGITS = 20;
+  private static final int HASH_LENGTH = 16;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final ThreadLocal<MessageDigest> DIGEST =
+      ThreadLocal.withInitial(MarvelRequestSigner::doCreateDigest);
+  private static final ThreadLocal<byte[]> BUFFER =
+      ThreadLocal.withInitial(() -> new byte[MAX_TIMESTAMP_DIGITS + HASH_LENGTH]);
+
+  @Getter private final String publicKey;
+  private final String privateKey;
+  private final byte[] publicKeyBytes;
+  private final byte[] privateKeyBytes;
+  @Getter private final long interval;
+  private final Clock clock;
+  private volatile Signature current;
+
+  public MarvelRequestSigner(final String publicKey, final String privateKey) {
+    this(publicKey, privateKey, DEFAULT_INTERVAL, Clock.systemUTC());
+  }
+
+  MarvelRequestSigner(
+      final String publicKey, final String privateKey, final long interval, final Clock clock) {
+    this.publicKey = publicKey;
+    this.privateKey = privateKey;
+    this.publicKeyBytes = publicKey.getBytes(StandardCharsets.UTF_8);
+    this.privateKeyBytes = privateKey.getBytes(StandardCharsets.UTF_8);
+    this.interval = Math.max(1L, interval);
+    this.clock = clock;
+  }
+
+  /**
+   * Returns if this signer uses the given key pair.
+   *
+   * @param publicKey the public key
+   * @param privateKey the private key
+   * @return true if the keys match
+   */
+  public boolean isFor(final String publicKey, final String privateKey) {
+    return this.publicKey.equals(publicKey) && this.privateKey.equals(privateKey);
+  }
+
+  /**
+   * Returns the signature for a request made now.
+   *
+   * @return the signature
+   */
+  public Signature sign() {
+    final long now = this.clock.millis();
+    final long timestamp = now - (now % this.interval);
+    final Signature signature = this.current;
+    if (signature != null && signature.getTimestamp() == timestamp) {
+      return signature;
+    }
+    log.trace("Signing requests for timestamp: {}", timestamp);
+    final Signature result = new Signature(timestamp, this.getHash(timestamp));
+    this.current = result;
+    return result;
+  }
+
+  /**
+   * Returns the MD5 hash, as hex, of the timestamp followed by the private and public keys.
+   *
+   * @param timestamp the timestamp
+   * @return the hash
+   */
+  public String getHash(final long timestamp) {
+    final MessageDigest digest = DIGEST.get();
+    final byte[] buffer = BUFFER.get();
+    final int start = doEncodeTimestamp(timestamp, buffer);
+    digest.update(buffer, start, MAX_TIMESTAMP_DIGITS - start);
+    digest.update(this.privateKeyBytes);
+    digest.update(this.publicKeyBytes);
+    try {
+      digest.digest(buffer, MAX_TIMESTAMP_DIGITS, HASH_LENGTH);
+    } catch (DigestException error) {
+      throw new IllegalStateException("Failed to create request hash", error);
+    }
+    final char[] result = new char[HASH_LENGTH * 2];
+    for (int index = 0; index < HASH_LENGTH; index++) {
+      final int value = buffer[MAX_TIMESTAMP_DIGITS + index] & 0xff;
+      result[index * 2] = HEX_DIGITS[value >>> 4];
+      result[index * 2 + 1] = HEX_DIGITS[value & 0x0f];
+    }
+    return new String(result);
+  }
+
+  private static int doEncodeTimestamp(final long timestamp, final byte[] buffer) {
+    if (timestamp < 0L) {
+      final byte[] digits = String.valueOf(timestamp).getBytes(StandardCharsets.US_ASCII);
+      System.arraycopy(digits, 0, buffer, MAX_TIMESTAMP_DIGITS - digits.length, digits.length);
+      return MAX_TIMESTAMP_DIGITS - digits.length;
+    }
+    int position = MAX_TIMESTAMP_DIGITS;
+    long value = timestamp;
+    do {
+      buffer[--position] = (byte) ('0' + (value % 10));
+      value /= 10;
+    } while (value > 0);
+    return position;
+  }
+
+  private static MessageDigest doCreateDigest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException error) {
+      throw new IllegalStateException("MD5 is not available", error);
+    }
+  }
+
+  /** <code>Signature</code> contains the timestamp and hash sent with a request. */
+  @AllArgsConstructor
+  public static class Signature {
+    @Getter private final long timestamp;
+    @Getter private final String hash;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>MarvelMemoryCache</code> is a small, bounded in-memory cache for results that are looked up
+ * repeatedly during a session. The least recently used entries are dropped once the cache is full,
+ * and entries expire after a configurable time. When a copier is given, values are copied as they
+ * are added and as they are returned, so that callers never share a cached value.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelMemoryCache<K, V> {
+  /** The default maximum number of entries. */
+  public static final int DEFAULT_MAX_ENTRIES = 500;
+
+  /** The default time, in minutes, before an entry expires. */
+  public static final int DEFAULT_TTL = 10;
+
+  @Getter private int maxEntries;
+  @Getter private Duration ttl;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final UnaryOperator<V> copier;
+
+  public MarvelMemoryCache(final int maxEntries, final Duration ttl) {
+    this(maxEntries, ttl, UnaryOperator.identity());
+  }
+
+  public MarvelMemoryCache(
+      final int maxEntries, final Duration ttl, final UnaryOperator<V> copier) {
+    this.maxEntries = maxEntries;
+    this.ttl = ttl;
+    this.copier = copier;
+  }
+
+  /**
+   * Updates the limits for the cache, dropping entries if it now holds too many.
+   *
+   * @param maxEntries the maximum number of entries, zero to disable the cache
+   * @param ttl the time before an entry expires
+   */
+  public synchronized void configure(final int maxEntries, final Duration ttl) {
+    if (this.maxEntries != maxEntries || !this.ttl.equals(ttl)) {
+      log.debug("Configuring memory cache: max entries={} ttl={}", maxEntries, ttl);
+      this.maxEntries = maxEntries;
+      this.ttl = ttl;
+      this.doTrim();
+    }
+  }
+
+  /**
+   * Returns the cached value for a key.
+   *
+   * @param key the key
+   * @return the value, or null if it is not cached or has expired
+   */
+  public synchronized V get(final K key) {
+    final Entry<V> entry = this.entries.get(key);
+    if (entry != null && System.nanoTime() - entry.created <= this.ttl.toNanos()) {
+      this.hitCount.incrementAndGet();
+      return this.copier.apply(entry.value);
+    }
+    if (entry != null) {
+      this.entries.remove(key);
+    }
+    this.missCount.incrementAndGet();
+    return null;
+  }
+
+  /**
+   * Adds a value to the cache.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public synchronized void put(final K key, final V value) {
+    if (this.maxEntries > 0 && value != null) {
+      this.entries.put(key, new Entry<>(this.copier.apply(value), System.nanoTime()));
+      this.doTrim();
+    }
+  }
+
+  /** Removes all entries. */
+  public synchronized void clear() {
+    this.entries.clear();
+  }
+
+  /**
+   * Returns the number of entries currently cached.
+   *
+   * @return the entry count
+   */
+  public synchronized int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * Returns the number of lookups that found a cached value.
+   *
+   * @return the hit count
+   */
+  public long getHitCount() {
+    return this.hitCount.get();
+  }
+
+  /**
+   * Returns the number of lookups that did not find a cached value.
+   *
+   * @return the miss count
+   */
+  public long getMissCount() {
+    return this.missCount.get();
+  }
+
+  private void doTrim() {
+    final Iterator<Map.Entry<K, Entry<V>>> iterator = this.entries.entrySet().iterator();
+    while (this.entries.size() > Math.max(0, this.maxEntries) && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  @AllArgsConstructor
+  private static class Entry<V> {
+    private final V value;
+    private final long created;
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * <code>MarvelResponseCache</code> stores decoded responses from Marvel's online service on disk,
+ * keyed by the endpoint path and the request parameters. Entries expire after a configurable time
+ * and the oldest entries are removed once the cache holds too many. Expired entries are kept so
+ * they can be revalidated with Marvel and reused if they haven't changed.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelResponseCache {
+  /** The default time, in minutes, before a cached response expires. */
+  public static final int DEFAULT_TTL = 24 * 60;
+
+  /** The default maximum number of cached responses. */
+  public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+  static final String ENTRY_EXTENSION = ".json";
+  static final Set<String> IGNORED_PARAMETERS = Set.of("ts", "apikey", "hash");
+
+  @Getter private final Path directory;
+  @Getter private final Duration ttl;
+  @Getter private final int maxEntries;
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private final AtomicInteger entryCount = new AtomicInteger();
+  private final Object evictionLock = new Object();
+
+  public MarvelResponseCache(final Path directory, final Duration ttl, final int maxEntries) {
+    log.debug(
+        "Creating Marvel response cache: directory={} ttl={} max entries={}",
+        directory,
+        ttl,
+        maxEntries);
+    this.directory = directory;
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+    try {
+      Files.createDirectories(directory);
+      this.entryCount.set(this.doListEntries().length);
+    } catch (IOException error) {
+      log.error("Failed to create cache directory: {}", directory, error);
+    }
+  }
+
+  /**
+   * Creates the key for a request. Parameters are sorted, and the authentication parameters are
+   * dropped, so that the same request always produces the same key.
+   *
+   * @param path the endpoint path
+   * @param parameters the request parameters
+   * @return the key
+   */
+  public static String createKey(final String path, final String parameters) {
+    final String query =
+        Arrays.stream(StringUtils.defaultString(parameters).split("&"))
+            .filter(StringUtils::isNotBlank)
+            .filter(parameter -> !IGNORED_PARAMETERS.contains(parameter.split("=", 2)[0]))
+            .sorted()
+            .collect(Collectors.joining("&"));
+    return String.format("%s?%s", path, query);
+  }
+
+  /**
+   * Loads a cached response.
+   *
+   * @param key the request key
+   * @param responseClass the response type
+   * @return the response, or null if it is not cached or has expired
+   * @param <R> the response type
+   */
+  public <R> R load(final String key, final Class<R> responseClass) {
+    final File file = this.doGetEntryFile(key);
+    if (!file.exists()) {
+      log.trace("Cache miss: {}", key);
+      return null;
+    }
+    if (System.currentTimeMillis() - file.lastModified() > this.ttl.toMillis()) {
+      log.trace("Cache entry expired: {}", key);
+      return null;
+    }
+    log.trace("Cache hit: {}", key);
+    return this.doReadEntry(key, file, responseClass);
+  }
+
+  /**
+   * Loads a cached response, whether or not it has expired.
+   *
+   * @param key the request key
+   * @param responseClass the response type
+   * @return the response, or null if it is not cached
+   * @param <R> the response type
+   */
+  public <R> R loadExpired(final String key, final Class<R> responseClass) {
+    final File file = this.doGetEntryFile(key);
+    if (!file.exists()) {
+      return null;
+    }
+    return this.doReadEntry(key, file, responseClass);
+  }
+
+  /**
+   * Marks a cached response as current after Marvel reports that it hasn't changed.
+   *
+   * @param key the request key
+   */
+  public void refresh(final String key) {
+    final File file = this.doGetEntryFile(key);
+    if (file.exists() && !file.setLastModified(System.currentTimeMillis())) {
+      log.error("Failed to refresh cache entry: {}", key);
+    } else {
+      log.trace("Refreshed cache entry: {}", key);
+    }
+  }
+
+  /**
+   * Stores a response.
+   *
+   * @param key the request key
+   * @param response the response
+   */
+  public void store(final String key, final Object response) {
+    final File file = this.doGetEntryFile(key);
+    Path temporary = null;
+    boolean moved = false;
+    try {
+      final boolean isNewEntry = !file.exists();
+      temporary = Files.createTempFile(this.directory, "entry", ".tmp");
+      this.objectMapper.writeValue(temporary.toFile(), response);
+      Files.move(
+          temporary,
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      moved = true;
+      log.trace("Cached response: {}", key);
+      if (isNewEntry && this.entryCount.incrementAndGet() > this.maxEntries) {
+        this.doEvictOldestEntries();
+      }
+    } catch (IOException error) {
+      log.error("Failed to write cache entry: {}", key, error);
+    } finally {
+      if (temporary != null && !moved) {
+        this.doDeleteTemporaryFile(temporary);
+      }
+    }
+  }
+
+  private void doDeleteTemporaryFile(final Path temporary) {
+    try {
+      Files.deleteIfExists(temporary);
+    } catch (IOException error) {
+      log.error("Failed to delete temporary cache file: {}", temporary, error);
+    }
+  }
+
+  private void doEvictOldestEntries() {
+    synchronized (this.evictionLock) {
+      final File[] entries = this.doListEntries();
+      final int excess = entries.length - this.maxEntries;
+      if (excess > 0) {
+        log.debug("Evicting {} cache entries", excess);
+        Stream.of(entries)
+            .sorted(Comparator.comparingLong(File::lastModified))
+            .limit(excess)
+            .forEach(File::delete);
+      }
+      this.entryCount.set(Math.min(entries.length, this.maxEntries));
+    }
+  }
+
+  private <R> R doReadEntry(final String key, final File file, final Class<R> responseClass) {
+    try {
+      return this.objectMapper.readValue(file, responseClass);
+    } catch (IOException error) {
+      log.error("Failed to read cache entry: {}", key, error);
+      return null;
+    }
+  }
+
+  private File[] doListEntries() {
+    final File[] result =
+        this.directory.toFile().listFiles((dir, name) -> name.endsWith(ENTRY_EXTENSION));
+    return result != null ? result : new File[0];
+  }
+
+  private File doGetEntryFile(final String key) {
+    return this.directory.resolve(DigestUtils.sha256Hex(key) + ENTRY_EXTENSION).toFile();
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.metadata.marvel.adaptor.MetadataCopyAdaptor;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+
+/**
+ * <code>MarvelSeriesStore</code> holds the issue details for whole series, as loaded from the
+ * series listing, so that the details for each issue can be returned without another request. The
+ * least recently used series are dropped once the store is full, and series expire after a
+ * configurable time. The store keeps its own copies of the details, so callers can't change what is
+ * stored.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelSeriesStore {
+  /** The default maximum number of series. */
+  public static final int DEFAULT_MAX_SERIES = 25;
+
+  @Getter private int maxSeries;
+  @Getter private Duration ttl;
+  private final LinkedHashMap<String, Series> series = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, String> seriesForIssue = new HashMap<>();
+
+  public MarvelSeriesStore(final int maxSeries, final Duration ttl) {
+    this.maxSeries = maxSeries;
+    this.ttl = ttl;
+  }
+
+  /**
+   * Updates the limits for the store, dropping series if it now holds too many.
+   *
+   * @param maxSeries the maximum number of series, zero to disable the store
+   * @param ttl the time before a series expires
+   */
+  public synchronized void configure(final int maxSeries, final Duration ttl) {
+    if (this.maxSeries != maxSeries || !this.ttl.equals(ttl)) {
+      log.debug("Configuring series store: max series={} ttl={}", maxSeries, ttl);
+      this.maxSeries = maxSeries;
+      this.ttl = ttl;
+      this.doTrim();
+    }
+  }
+
+  /**
+   * Returns if the store holds the issues for a series.
+   *
+   * @param seriesId the series id
+   * @return true if the series is stored and hasn't expired
+   */
+  public synchronized boolean contains(final String seriesId) {
+    return this.doGetSeries(seriesId) != null;
+  }
+
+  /**
+   * Stores the issues for a series, replacing any previously stored for it.
+   *
+   * @param seriesId the series id
+   * @param issues the issues
+   */
+  public synchronized void put(
+      final String seriesId, final Collection<IssueDetailsMetadata> issues) {
+    if (this.maxSeries <= 0) {
+      return;
+    }
+    this.doRemove(seriesId);
+    final Map<String, IssueDetailsMetadata> entries = new HashMap<>();
+    issues.forEach(
+        issue ->
+            entries.put(
+                issue.getSourceId(), MetadataCopyAdaptor.getInstance().copyIssueDetails(issue)));
+    log.debug("Storing series: id={} issues={}", seriesId, entries.size());
+    this.series.put(seriesId, new Series(entries, System.nanoTime()));
+    entries.keySet().forEach(issueId -> this.seriesForIssue.put(issueId, seriesId));
+    this.doTrim();
+  }
+
+  /**
+   * Returns the stored details for an issue.
+   *
+   * @param issueId the issue id
+   * @return the details, or null if the issue's series isn't stored
+   */
+  public synchronized IssueDetailsMetadata get(final String issueId) {
+    final String seriesId = this.seriesForIssue.get(issueId);
+    if (seriesId == null) {
+      return null;
+    }
+    final Series entry = this.doGetSeries(seriesId);
+    return entry != null
+        ? MetadataCopyAdaptor.getInstance().copyIssueDetails(entry.issues.get(issueId))
+        : null;
+  }
+
+  /** Removes all series. */
+  public synchronized void clear() {
+    this.series.clear();
+    this.seriesForIssue.clear();
+  }
+
+  /**
+   * Returns the number of series currently stored.
+   *
+   * @return the series count
+   */
+  public synchronized int size() {
+    return this.series.size();
+  }
+
+  private Series doGetSeries(final String seriesId) {
+    final Series entry = this.series.get(seriesId);
+    if (entry != null && System.nanoTime() - entry.created > this.ttl.toNanos()) {
+      log.trace("Series expired: id={}", seriesId);
+      this.doRemove(seriesId);
+      return null;
+    }
+    return entry;
+  }
+
+  private void doRemove(final String seriesId) {
+    final Series entry = this.series.remove(seriesId);
+    if (entry != null) {
+      entry.issues.keySet().forEach(issueId -> this.seriesForIssue.remove(issueId, seriesId));
+    }
+  }
+
+  private void doTrim() {
+    final Iterator<Map.Entry<String, Series>> iterator = this.series.entrySet().iterator();
+    while (this.series.size() > Math.max(0, this.maxSeries) && iterator.hasNext()) {
+      final Map.Entry<String, Series> eldest = iterator.next();
+      iterator.remove();
+      eldest
+          .getValue()
+          .issues
+          .keySet()
+          .forEach(issueId -> this.seriesForIssue.remove(issueId, eldest.getKey()));
+    }
+  }
+
+  @AllArgsConstructor
+  private static class Series {
+    private final Map<String, IssueDetailsMetadata> issues;
+    private final long created;
+  }
+}
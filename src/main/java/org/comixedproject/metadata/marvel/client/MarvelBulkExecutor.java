@@ -0,0 +1,158 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>MarvelBulkExecutor</code> runs blocking lookups for bulk jobs. When virtual threads are
+ * requested and the runtime supports them, each lookup runs on its own virtual thread. Otherwise a
+ * fixed pool of platform threads is used. In both cases a semaphore caps the number of lookups in
+ * flight.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelBulkExecutor {
+  /** The default maximum number of lookups in flight. */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
+  private static final String VIRTUAL_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+  @Getter private final boolean virtualThreadsRequested;
+  @Getter private final int maxInFlight;
+  @Getter private final boolean virtual;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  public MarvelBulkExecutor(final boolean virtualThreadsRequested, final int maxInFlight) {
+    this.virtualThreadsRequested = virtualThreadsRequested;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.permits = new Semaphore(this.maxInFlight, true);
+    final ExecutorService virtualExecutor =
+        virtualThreadsRequested ? doCreateVirtualExecutor() : null;
+    this.virtual = virtualExecutor != null;
+    this.executor =
+        this.virtual
+            ? virtualExecutor
+            : Executors.newFixedThreadPool(this.maxInFlight, new Factory());
+    log.debug("Created bulk executor: virtual={} max in flight={}", this.virtual, this.maxInFlight);
+  }
+
+  /**
+   * Returns if the runtime supports virtual threads.
+   *
+   * @return true if virtual threads are available
+   */
+  public static boolean isVirtualThreadsSupported() {
+    try {
+      Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD);
+      return true;
+    } catch (NoSuchMethodException error) {
+      return false;
+    }
+  }
+
+  private static ExecutorService doCreateVirtualExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD).invoke(null);
+    } catch (ReflectiveOperationException error) {
+      log.warn("Virtual threads not supported by this runtime: using platform threads");
+      return null;
+    }
+  }
+
+  /**
+   * Runs a lookup once a permit is available. If the executor has been shut down, the returned
+   * future fails rather than the lookup being run.
+   *
+   * @param task the lookup
+   * @return the result
+   * @param <T> the result type
+   */
+  public <T> CompletableFuture<T> submit(final Callable<T> task) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    try {
+      this.executor.execute(() -> this.doRun(task, result));
+    } catch (RejectedExecutionException error) {
+      log.debug("Lookup rejected by bulk executor", error);
+      result.completeExceptionally(error);
+    }
+    return result;
+  }
+
+  private <T> void doRun(final Callable<T> task, final CompletableFuture<T> result) {
+    try {
+      this.permits.acquire();
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      result.completeExceptionally(error);
+      return;
+    }
+    // the permit is released first so the lookup is no longer in flight once its result is seen
+    T value = null;
+    Exception failure = null;
+    try {
+      value = task.call();
+    } catch (Exception error) {
+      failure = error;
+    } finally {
+      this.permits.release();
+    }
+    if (failure != null) {
+      result.completeExceptionally(failure);
+    } else {
+      result.complete(value);
+    }
+  }
+
+  /**
+   * Returns the number of lookups currently in flight.
+   *
+   * @return the count
+   */
+  public int getInFlight() {
+    return this.maxInFlight - this.permits.availablePermits();
+  }
+
+  /** Stops accepting lookups. Lookups already submitted are completed. */
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+
+  private static class Factory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final Thread result = new Thread(runnable, "marvel-bulk-" + this.count.incrementAndGet());
+      result.setDaemon(true);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * <code>MarvelMetrics</code> records the meters for the requests made by a single action. Every
+ * meter is tagged with the action, and those for a request are also tagged with its endpoint, where
+ * identifiers are replaced so that, for example, all issue lookups share the endpoint <code>
+ * comics/{id}</code>. When no registry is provided nothing is recorded, and Micrometer isn't
+ * needed.
+ *
+ * @author Darryl L. Pierce
+ */
+public class MarvelMetrics {
+  /** Times each request, from sending it until the response body is received. */
+  public static final String REQUESTS = "marvel.requests";
+
+  /** Measures the size of each response body received. */
+  public static final String RESPONSE_BYTES = "marvel.response.bytes";
+
+  /** Times decoding each response body. */
+  public static final String DECODE = "marvel.decode";
+
+  /** Times mapping each record to the returned type. */
+  public static final String MAPPING = "marvel.mapping";
+
+  /** Measures the number of pages requested by each call to a paged endpoint. */
+  public static final String PAGES = "marvel.pages";
+
+  /** Measures the number of records in each page received. */
+  public static final String PAGE_RECORDS = "marvel.page.records";
+
+  /** Counts the requests that were sent again after failing. */
+  public static final String RETRIES = "marvel.retries";
+
+  /** Counts the requests refused because of Marvel's rate limit. */
+  public static final String THROTTLED = "marvel.throttled";
+
+  /** Counts the lookups made in the response cache, tagged with their result. */
+  public static final String CACHE = "marvel.cache";
+
+  /** The cache lookup returned a current response. */
+  public static final String CACHE_HIT = "hit";
+
+  /** The cache lookup found an expired response that Marvel reported as unchanged. */
+  public static final String CACHE_REVALIDATED = "revalidated";
+
+  /** The cache lookup didn't return a response. */
+  public static final String CACHE_MISS = "miss";
+
+  /** The status used for requests that failed without receiving a response. */
+  public static final String STATUS_IO_ERROR = "IO_ERROR";
+
+  static final String TAG_ACTION = "action";
+  static final String TAG_ENDPOINT = "endpoint";
+  static final String TAG_STATUS = "status";
+  static final String TAG_RESULT = "result";
+  static final String ID_SEGMENT = "{id}";
+
+  /** The metrics used when no registry is provided, which record nothing. */
+  public static final MarvelMetrics NOOP = new MarvelMetrics(null, "");
+
+  @Getter private final MeterRegistry registry;
+  @Getter private final String action;
+
+  MarvelMetrics(final MeterRegistry registry, final String action) {
+    this.registry = registry;
+    this.action = action;
+  }
+
+  /**
+   * Creates the metrics for an action. Micrometer is only loaded when a registry is provided.
+   *
+   * @param registry the registry, or null to record nothing
+   * @param actionClass the action type
+   * @return the metrics
+   */
+  public static MarvelMetrics create(final MeterRegistry registry, final Class<?> actionClass) {
+    if (registry == null) {
+      return NOOP;
+    }
+    return new MarvelMicrometerMetrics(registry, actionClass);
+  }
+
+  /**
+   * Returns the endpoint for a url path. Marvel's paths alternate between resources and
+   * identifiers, so every second segment is replaced.
+   *
+   * @param path the url path
+   * @return the endpoint
+   */
+  public static String getEndpoint(final String path) {
+    final String[] segments = path.split("/");
+    for (int index = 1; index < segments.length; index += 2) {
+      segments[index] = ID_SEGMENT;
+    }
+    return String.join("/", segments);
+  }
+
+  /**
+   * Returns if meters are recorded.
+   *
+   * @return true if a registry is available
+   */
+  public boolean isEnabled() {
+    return false;
+  }
+
+  /**
+   * Returns the time at which a measurement starts.
+   *
+   * @return the start time
+   */
+  public long start() {
+    return 0L;
+  }
+
+  /**
+   * Records the time taken by a request.
+   *
+   * @param endpoint the endpoint
+   * @param status the response status
+   * @param start the time the request was sent
+   */
+  public void recordRequest(final String endpoint, final String status, final long start) {
+    // nothing is recorded
+  }
+
+  /**
+   * Records the size of a response body.
+   *
+   * @param endpoint the endpoint
+   * @param bytes the number of bytes received
+   */
+  public void recordResponseBytes(final String endpoint, final long bytes) {
+    // nothing is recorded
+  }
+
+  /**
+   * Records the time taken to decode a response body.
+   *
+   * @param endpoint the endpoint
+   * @param duration the time taken, in nanoseconds
+   */
+  public void recordDecode(final String endpoint, final long duration) {
+    // nothing is recorded
+  }
+
+  /**
+   * Returns a mapper that records the time taken to map each record.
+   *
+   * @param mapper the mapper
+   * @return the timed mapper
+   * @param <R> the record type
+   * @param <E> the mapped type
+   */
+  public <R, E> Function<R, E> timeMapping(final Function<R, E> mapper) {
+    return mapper;
+  }
+
+  /**
+   * Records the number of pages requested by a call.
+   *
+   * @param pages the number of pages
+   */
+  public void recordPages(final int pages) {
+    // nothing is recorded
+  }
+
+  /**
+   * Records the number of records in a page.
+   *
+   * @param endpoint the endpoint
+   * @param records the number of records
+   */
+  public void recordPageRecords(final String endpoint, final int records) {
+    // nothing is recorded
+  }
+
+  /**
+   * Records that a request is being sent again.
+   *
+   * @param endpoint the endpoint
+   */
+  public void recordRetry(final String endpoint) {
+    // nothing is recorded
+  }
+
+  /**
+   * Records that a request was refused because of the rate limit.
+   *
+   * @param endpoint the endpoint
+   */
+  public void recordThrottled(final String endpoint) {
+    // nothing is recorded
+  }
+
+  /**
+   * Records a lookup in the response cache.
+   *
+   * @param endpoint the endpoint
+   * @param result the result of the lookup
+   */
+  public void recordCache(final String endpoint, final String result) {
+    // nothing is recorded
+  }
+}
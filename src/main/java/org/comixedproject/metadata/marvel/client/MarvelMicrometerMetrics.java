@@ -0,0 +1,102 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <code>MarvelMicrometerMetrics</code> records the meters for the requests made by a single action
+ * in a Micrometer registry. It is only created once a registry has been provided.
+ *
+ * @author Darryl L. Pierce
+ */
+class MarvelMicrometerMetrics extends MarvelMetrics {
+  private final MeterRegistry registry;
+
+  MarvelMicrometerMetrics(final MeterRegistry registry, final Class<?> actionClass) {
+    super(registry, actionClass.getSimpleName());
+    this.registry = registry;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public long start() {
+    return System.nanoTime();
+  }
+
+  @Override
+  public void recordRequest(final String endpoint, final String status, final long start) {
+    this.registry
+        .timer(REQUESTS, this.doGetTags(endpoint).and(TAG_STATUS, status))
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void recordResponseBytes(final String endpoint, final long bytes) {
+    this.registry.summary(RESPONSE_BYTES, this.doGetTags(endpoint)).record(bytes);
+  }
+
+  @Override
+  public void recordDecode(final String endpoint, final long duration) {
+    this.registry.timer(DECODE, this.doGetTags(endpoint)).record(duration, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public <R, E> Function<R, E> timeMapping(final Function<R, E> mapper) {
+    final Timer timer = this.registry.timer(MAPPING, TAG_ACTION, this.getAction());
+    return entry -> timer.record(() -> mapper.apply(entry));
+  }
+
+  @Override
+  public void recordPages(final int pages) {
+    this.registry.summary(PAGES, TAG_ACTION, this.getAction()).record(pages);
+  }
+
+  @Override
+  public void recordPageRecords(final String endpoint, final int records) {
+    this.registry.summary(PAGE_RECORDS, this.doGetTags(endpoint)).record(records);
+  }
+
+  @Override
+  public void recordRetry(final String endpoint) {
+    this.registry.counter(RETRIES, this.doGetTags(endpoint)).increment();
+  }
+
+  @Override
+  public void recordThrottled(final String endpoint) {
+    this.registry.counter(THROTTLED, this.doGetTags(endpoint)).increment();
+  }
+
+  @Override
+  public void recordCache(final String endpoint, final String result) {
+    this.registry.counter(CACHE, this.doGetTags(endpoint).and(TAG_RESULT, result)).increment();
+  }
+
+  private Tags doGetTags(final String endpoint) {
+    return Tags.of(TAG_ACTION, this.getAction(), TAG_ENDPOINT, endpoint);
+  }
+}
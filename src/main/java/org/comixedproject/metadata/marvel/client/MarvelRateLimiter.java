@@ -0,0 +1,170 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.metadata.MetadataException;
+import reactor.core.publisher.Mono;
+
+/**
+ * <code>MarvelRateLimiter</code> paces requests to Marvel's online service. A token bucket limits
+ * the number of requests each second, and a counter tracks the requests made against the daily
+ * quota, which resets at midnight UTC. Either limit can be left unlimited, and once Marvel reports
+ * the quota as used up no more requests are sent until the next day.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelRateLimiter {
+  /** The value for a limit that isn't enforced. */
+  public static final int UNLIMITED = 0;
+
+  private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+  private final Clock clock;
+  @Getter private int requestsPerSecond;
+  @Getter private int requestsPerDay;
+  private double availableTokens;
+  private long lastRefill;
+  private LocalDate currentDay;
+  private int requestsToday;
+  private boolean exhausted;
+
+  public MarvelRateLimiter(final int requestsPerSecond, final int requestsPerDay) {
+    this(requestsPerSecond, requestsPerDay, Clock.systemUTC());
+  }
+
+  MarvelRateLimiter(final int requestsPerSecond, final int requestsPerDay, final Clock clock) {
+    this.clock = clock;
+    this.requestsPerSecond = Math.max(UNLIMITED, requestsPerSecond);
+    this.requestsPerDay = Math.max(UNLIMITED, requestsPerDay);
+    this.availableTokens = this.requestsPerSecond;
+    this.lastRefill = System.nanoTime();
+    this.currentDay = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+  }
+
+  /**
+   * Updates the limits if they have changed, keeping the count of requests already made today.
+   *
+   * @param requestsPerSecond the requests allowed each second, or {@link #UNLIMITED}
+   * @param requestsPerDay the requests allowed each day, or {@link #UNLIMITED}
+   */
+  public synchronized void configure(final int requestsPerSecond, final int requestsPerDay) {
+    final int perSecond = Math.max(UNLIMITED, requestsPerSecond);
+    final int perDay = Math.max(UNLIMITED, requestsPerDay);
+    if (this.requestsPerSecond != perSecond || this.requestsPerDay != perDay) {
+      log.debug("Configuring rate limiter: per second={} per day={}", perSecond, perDay);
+      this.requestsPerSecond = perSecond;
+      this.requestsPerDay = perDay;
+      this.availableTokens = Math.min(this.availableTokens, this.requestsPerSecond);
+    }
+  }
+
+  /**
+   * Waits until a request can be sent. Fails if the daily quota has been used up.
+   *
+   * @return completes when the request can be sent
+   */
+  public Mono<Void> acquire() {
+    return Mono.defer(
+        () -> {
+          final long delay;
+          try {
+            delay = this.reserve();
+          } catch (MetadataException error) {
+            return Mono.error(error);
+          }
+          if (delay > 0L) {
+            log.trace("Delaying request: {}ns", delay);
+            return Mono.delay(Duration.ofNanos(delay)).then();
+          }
+          return Mono.empty();
+        });
+  }
+
+  /**
+   * Reserves a request, returning how long the caller must wait before sending it.
+   *
+   * @return the delay in nanoseconds
+   * @throws MetadataException if the daily quota has been used up
+   */
+  synchronized long reserve() throws MetadataException {
+    this.doRollOverDay();
+    if (this.exhausted
+        || (this.requestsPerDay != UNLIMITED && this.requestsToday >= this.requestsPerDay)) {
+      throw new MetadataException("Marvel daily request quota exhausted");
+    }
+    this.requestsToday++;
+
+    final long now = System.nanoTime();
+    if (this.requestsPerSecond == UNLIMITED) {
+      this.lastRefill = now;
+      return 0L;
+    }
+    this.availableTokens =
+        Math.min(
+            this.requestsPerSecond,
+            this.availableTokens
+                + ((double) (now - this.lastRefill) * this.requestsPerSecond) / NANOS_PER_SECOND);
+    this.lastRefill = now;
+    this.availableTokens -= 1.0;
+    if (this.availableTokens >= 0.0) {
+      return 0L;
+    }
+    return (long) ((-this.availableTokens * NANOS_PER_SECOND) / this.requestsPerSecond);
+  }
+
+  /** Marks the daily quota as used up, such as when Marvel rejects a request for exceeding it. */
+  public synchronized void exhaust() {
+    log.warn("Marvel daily request quota exhausted");
+    this.doRollOverDay();
+    this.exhausted = true;
+  }
+
+  /**
+   * Returns the number of requests remaining in today's quota.
+   *
+   * @return the remaining requests, or {@link Integer#MAX_VALUE} if there is no daily quota
+   */
+  public synchronized int getRemainingQuota() {
+    this.doRollOverDay();
+    if (this.exhausted) {
+      return 0;
+    }
+    if (this.requestsPerDay == UNLIMITED) {
+      return Integer.MAX_VALUE;
+    }
+    return Math.max(0, this.requestsPerDay - this.requestsToday);
+  }
+
+  private void doRollOverDay() {
+    final LocalDate today = LocalDate.now(this.clock.withZone(ZoneOffset.UTC));
+    if (!today.equals(this.currentDay)) {
+      log.debug("Resetting daily request quota");
+      this.currentDay = today;
+      this.requestsToday = 0;
+      this.exhausted = false;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <code>MarvelResultsDecoder</code> decodes the response bodies from Marvel's online service. When
+ * streaming, each record in <code>data.results</code> is emitted as soon as it is complete, so the
+ * response as a whole is never held in memory.
+ *
+ * @author Darryl L. Pierce
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+public class MarvelResultsDecoder {
+  private static final String DATA_FIELD = "data";
+  private static final String RESULTS_FIELD = "results";
+  private static final String TOTAL_FIELD = "total";
+  private static final int DATA_DEPTH = 2;
+  private static final int RESULTS_DEPTH = 3;
+  private static final int RECORD_DEPTH = 4;
+
+  @Getter private static final MarvelResultsDecoder instance = new MarvelResultsDecoder();
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  /**
+   * Decodes a complete response body.
+   *
+   * @param body the response body
+   * @param responseClass the response body type
+   * @return the response
+   * @param <R> the response body type
+   */
+  public <R> R decode(final byte[] body, final Class<R> responseClass) {
+    try {
+      return this.objectMapper.readValue(body, responseClass);
+    } catch (IOException error) {
+      throw new DecodingException("Failed to decode response", error);
+    }
+  }
+
+  /**
+   * Decodes the records in a response body.
+   *
+   * @param body the response body
+   * @param recordClass the record type
+   * @param totalConsumer receives the total number of records available, if present
+   * @return the records
+   * @param <R> the record type
+   */
+  public <R> Flux<R> decode(
+      final Flux<DataBuffer> body, final Class<R> recordClass, final IntConsumer totalConsumer) {
+    return Flux.defer(
+        () -> {
+          final ResultsParser<R> parser;
+          try {
+            parser = new ResultsParser<>(recordClass, totalConsumer);
+          } catch (IOException error) {
+            return Flux.error(new DecodingException("Failed to create parser", error));
+          }
+          return body.concatMapIterable(
+                  buffer -> {
+                    try {
+                      return parser.feed(buffer);
+                    } finally {
+                      DataBufferUtils.release(buffer);
+                    }
+                  })
+              .concatWith(Mono.fromCallable(parser::finish).flatMapIterable(records -> records))
+              .doFinally(signal -> parser.close());
+        });
+  }
+
+  private class ResultsParser<R> {
+    private final JsonParser parser;
+    private final Class<R> recordClass;
+    private final IntConsumer totalConsumer;
+    private int depth = 0;
+    private String rootField;
+    private String dataField;
+    private TokenBuffer current;
+
+    ResultsParser(final Class<R> recordClass, final IntConsumer totalConsumer) throws IOException {
+      this.parser = new JsonFactory().createNonBlockingByteArrayParser();
+      this.recordClass = recordClass;
+      this.totalConsumer = totalConsumer;
+    }
+
+    List<R> feed(final DataBuffer buffer) {
+      final byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      try {
+        ((ByteArrayFeeder) this.parser.getNonBlockingInputFeeder())
+            .feedInput(bytes, 0, bytes.length);
+        return this.doParse();
+      } catch (IOException error) {
+        throw new DecodingException("Failed to decode response", error);
+      }
+    }
+
+    List<R> finish() {
+      this.parser.getNonBlockingInputFeeder().endOfInput();
+      try {
+        final List<R> result = this.doParse();
+        if (this.depth != 0) {
+          throw new DecodingException("Incomplete response body");
+        }
+        return result;
+      } catch (IOException error) {
+        throw new DecodingException("Failed to decode response", error);
+      }
+    }
+
+    void close() {
+      try {
+        this.parser.close();
+      } catch (IOException error) {
+        log.debug("Failed to close parser", error);
+      }
+    }
+
+    private List<R> doParse() throws IOException {
+      final List<R> result = new ArrayList<>();
+      JsonToken token;
+      while ((token = this.parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+        if (this.current != null) {
+          this.doCopyToken(token, result);
+        } else {
+          this.doHandleToken(token);
+        }
+      }
+      return result;
+    }
+
+    private void doCopyToken(final JsonToken token, final List<R> records) throws IOException {
+      this.current.copyCurrentEvent(this.parser);
+      if (token.isStructStart()) {
+        this.depth++;
+      } else if (token.isStructEnd()) {
+        this.depth--;
+        if (this.depth == RESULTS_DEPTH) {
+          records.add(
+              objectMapper.readValue(this.current.asParser(objectMapper), this.recordClass));
+          this.current = null;
+        }
+      }
+    }
+
+    private void doHandleToken(final JsonToken token) throws IOException {
+      switch (token) {
+        case FIELD_NAME:
+          if (this.depth == 1) {
+            this.rootField = this.parser.currentName();
+          } else if (this.depth == DATA_DEPTH) {
+            this.dataField = this.parser.currentName();
+          }
+          break;
+        case START_OBJECT:
+          this.depth++;
+          if (this.depth == RECORD_DEPTH && this.isInResults()) {
+            this.current = new TokenBuffer(objectMapper, false);
+            this.current.copyCurrentEvent(this.parser);
+          }
+          break;
+        case START_ARRAY:
+          this.depth++;
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          this.depth--;
+          break;
+        case VALUE_NUMBER_INT:
+          if (this.depth == DATA_DEPTH
+              && DATA_FIELD.equals(this.rootField)
+              && TOTAL_FIELD.equals(this.dataField)) {
+            log.trace("Received total: {}", this.parser.getIntValue());
+            this.totalConsumer.accept(this.parser.getIntValue());
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    private boolean isInResults() {
+      return DATA_FIELD.equals(this.rootField) && RESULTS_FIELD.equals(this.dataField);
+    }
+  }
+}
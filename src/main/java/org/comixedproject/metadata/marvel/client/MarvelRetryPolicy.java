@@ -0,0 +1,182 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * <code>MarvelRetryPolicy</code> decides when a failed request to Marvel's online service is sent
+ * again. Server errors, connection failures and throttled requests are retried using exponential
+ * backoff with jitter, bounded by the maximum backoff. Throttled requests that include a <code>
+ * Retry-After</code> header wait for the given time instead.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Log4j2
+public class MarvelRetryPolicy {
+  /** The default number of times a request is retried. */
+  public static final int DEFAULT_MAX_RETRIES = 3;
+
+  /** The default delay, in milliseconds, before the first retry. */
+  public static final int DEFAULT_BACKOFF = 500;
+
+  /** The default longest delay, in milliseconds, between retries. */
+  public static final int DEFAULT_MAX_BACKOFF = 10000;
+
+  /** A policy that never retries. */
+  public static final MarvelRetryPolicy NONE = new MarvelRetryPolicy(0, 0, 0);
+
+  @Getter private final int maxRetries;
+  @Getter private final int backoff;
+  @Getter private final int maxBackoff;
+
+  /**
+   * Applies the policy to a request.
+   *
+   * @param request the request
+   * @param description describes the request for logging
+   * @return the request with retries
+   * @param <R> the response type
+   */
+  public <R> Mono<R> apply(final Mono<R> request, final String description) {
+    if (this.maxRetries <= 0) {
+      return request;
+    }
+    return request.retryWhen(this.doCreateRetry(description));
+  }
+
+  /**
+   * Applies the policy to a streamed request.
+   *
+   * @param request the request
+   * @param description describes the request for logging
+   * @return the request with retries
+   * @param <R> the record type
+   */
+  public <R> Flux<R> apply(final Flux<R> request, final String description) {
+    if (this.maxRetries <= 0) {
+      return request;
+    }
+    return request.retryWhen(this.doCreateRetry(description));
+  }
+
+  private Retry doCreateRetry(final String description) {
+    return Retry.from(
+        signals ->
+            signals.concatMap(
+                signal -> {
+                  final Throwable failure = signal.failure();
+                  final long attempt = signal.totalRetriesInARow();
+                  final Duration delay =
+                      attempt < this.maxRetries ? this.getDelay(failure, attempt) : null;
+                  if (delay == null) {
+                    return Mono.error(failure);
+                  }
+                  log.debug(
+                      "Retrying request: {} attempt={} delay={}ms reason={}",
+                      description,
+                      attempt + 1,
+                      delay.toMillis(),
+                      failure.getMessage());
+                  return Mono.delay(delay);
+                }));
+  }
+
+  /**
+   * Returns how long to wait before retrying after a failure, or null if it shouldn't be retried.
+   *
+   * @param failure the failure
+   * @param attempt the number of retries already made
+   * @return the delay, or null
+   */
+  Duration getDelay(final Throwable failure, final long attempt) {
+    if (failure instanceof WebClientResponseException) {
+      final WebClientResponseException error = (WebClientResponseException) failure;
+      if (error.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+        if (StringUtils.isBlank(error.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))) {
+          return this.doGetBackoff(attempt);
+        }
+        return this.doGetRetryAfter(error.getHeaders());
+      }
+      if (error.getStatusCode().is5xxServerError()) {
+        return this.doGetBackoff(attempt);
+      }
+      return null;
+    }
+    if (failure instanceof CodecException) {
+      return null;
+    }
+    if (failure instanceof WebClientRequestException || this.isIOException(failure)) {
+      return this.doGetBackoff(attempt);
+    }
+    return null;
+  }
+
+  private boolean isIOException(final Throwable failure) {
+    Throwable cause = failure;
+    while (cause != null) {
+      if (cause instanceof IOException) {
+        return true;
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
+
+  private Duration doGetBackoff(final long attempt) {
+    final long ceiling =
+        Math.min(this.maxBackoff, (long) this.backoff << Math.min(attempt, Integer.SIZE - 2));
+    final long half = ceiling / 2L;
+    return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1L));
+  }
+
+  private Duration doGetRetryAfter(final HttpHeaders headers) {
+    final String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+    try {
+      final Duration result = Duration.ofSeconds(Long.parseLong(value.trim()));
+      if (result.toMillis() > this.maxBackoff) {
+        log.debug("Retry-after exceeds maximum backoff: {}s", value);
+        return null;
+      }
+      return result;
+    } catch (NumberFormatException error) {
+      log.debug("Unsupported retry-after value: {}", value);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+/**
+ * <code>MarvelTracer</code> creates the spans that trace the requests made to Marvel's online
+ * service, so that they can be exported to a tracing system. Each call made through the adaptor has
+ * a {@link #CALL_SPAN} span, with a {@link #PAGE_SPAN} span for each page fetched during the call.
+ * The default tracer, {@link #NOOP}, records nothing.
+ *
+ * @author Darryl L. Pierce
+ */
+public interface MarvelTracer {
+  /** The name of the span covering a call made through the adaptor. */
+  String CALL_SPAN = "marvel.call";
+
+  /** The name of the span covering a single page fetched during a call. */
+  String PAGE_SPAN = "marvel.page";
+
+  /** The action making the call. */
+  String ATTRIBUTE_ACTION = "marvel.action";
+
+  /** The endpoint requested, with identifiers replaced as for metrics. */
+  String ATTRIBUTE_ENDPOINT = "marvel.endpoint";
+
+  /** The number of records returned by a call, or received in a page when streaming. */
+  String ATTRIBUTE_RECORDS = "marvel.records";
+
+  /** The offset of the first record in a page. */
+  String ATTRIBUTE_OFFSET = "marvel.offset";
+
+  /** The maximum number of records in a page. */
+  String ATTRIBUTE_LIMIT = "marvel.limit";
+
+  /** The number of times a page was requested, including retries. */
+  String ATTRIBUTE_ATTEMPTS = "marvel.attempts";
+
+  /** The result of looking a page up in the response cache. */
+  String ATTRIBUTE_CACHE = "marvel.cache";
+
+  /** The status code of the last response received for a page. */
+  String ATTRIBUTE_STATUS_CODE = "http.status_code";
+
+  /** The size, in bytes, of the response body for a page. */
+  String ATTRIBUTE_PAYLOAD_SIZE = "marvel.payload.bytes";
+
+  /** The time, in nanoseconds, spent decoding the response body for a page. */
+  String ATTRIBUTE_DECODE_DURATION = "marvel.decode.nanos";
+
+  /** A tracer that records nothing. */
+  MarvelTracer NOOP = (name, parent) -> Span.NOOP;
+
+  /**
+   * Starts a span.
+   *
+   * @param name the span name
+   * @param parent the parent span, or null if the span has no parent
+   * @return the span
+   */
+  Span startSpan(String name, Span parent);
+
+  /**
+   * <code>Span</code> represents a single operation being traced. A span is ended exactly once, and
+   * may be updated from a different thread than the one that started it.
+   *
+   * @author Darryl L. Pierce
+   */
+  interface Span {
+    /** A span that records nothing. */
+    Span NOOP =
+        new Span() {
+          @Override
+          public void setAttribute(final String name, final String value) {}
+
+          @Override
+          public void setAttribute(final String name, final long value) {}
+
+          @Override
+          public void setError(final Throwable error) {}
+
+          @Override
+          public void end() {}
+        };
+
+    /**
+     * Sets a text attribute.
+     *
+     * @param name the attribute name
+     * @param value the value
+     */
+    void setAttribute(String name, String value);
+
+    /**
+     * Sets a numeric attribute.
+     *
+     * @param name the attribute name
+     * @param value the value
+     */
+    void setAttribute(String name, long value);
+
+    /**
+     * Records that the operation failed.
+     *
+     * @param error the error
+     */
+    void setError(Throwable error);
+
+    /** Ends the span. */
+    void end();
+  }
+}
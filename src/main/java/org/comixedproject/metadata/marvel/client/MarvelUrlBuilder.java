@@ -0,0 +1,188 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import org.comixedproject.metadata.marvel.auth.MarvelRequestSigner;
+
+/**
+ * <code>MarvelUrlBuilder</code> creates the URLs for requests to a single endpoint of Marvel's
+ * online service. Each action type prepares one for its endpoint, and each URL is then appended
+ * into a buffer kept for each thread.
+ *
+ * @author Darryl L. Pierce
+ */
+public class MarvelUrlBuilder {
+  private static final int INITIAL_CAPACITY = 256;
+  private static final String PUBLIC_API = "/v1/public/";
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+  @Getter private final String pathTemplate;
+
+  /**
+   * Creates a builder for the endpoint.
+   *
+   * @param pathTemplate the url path, with a <code>%s</code> for each id it contains
+   */
+  public MarvelUrlBuilder(final String pathTemplate) {
+    this.pathTemplate = pathTemplate;
+  }
+
+  /**
+   * Returns the url path for the given ids. Each id is encoded the same way as a query parameter
+   * value, so it can't change the path.
+   *
+   * @param ids the ids
+   * @return the url path
+   */
+  public String path(final Object... ids) {
+    if (ids.length == 0) {
+      return this.pathTemplate;
+    }
+    final Object[] encoded = new Object[ids.length];
+    for (int index = 0; index < ids.length; index++) {
+      encoded[index] = encode(String.valueOf(ids[index]));
+    }
+    return String.format(this.pathTemplate, encoded);
+  }
+
+  /**
+   * Creates the URL for a signed request.
+   *
+   * @param baseUrl the base URL
+   * @param path the url path
+   * @param parameters the encoded query parameters
+   * @param publicKey the public key
+   * @param signature the request signature
+   * @return the URL
+   * @see #path(Object...)
+   */
+  public String build(
+      final String baseUrl,
+      final String path,
+      final String parameters,
+      final String publicKey,
+      final MarvelRequestSigner.Signature signature) {
+    final StringBuilder result = BUFFER.get();
+    result.setLength(0);
+    result.append(baseUrl).append(PUBLIC_API).append(path).append('?');
+    if (!parameters.isEmpty()) {
+      result.append(parameters).append('&');
+    }
+    result
+        .append("ts=")
+        .append(signature.getTimestamp())
+        .append("&apikey=")
+        .append(publicKey)
+        .append("&hash=")
+        .append(signature.getHash());
+    return result.toString();
+  }
+
+  /**
+   * Starts a new set of query parameters.
+   *
+   * @return the parameters
+   */
+  public static Parameters parameters() {
+    return new Parameters(new StringBuilder());
+  }
+
+  /**
+   * Starts a new set of query parameters that extends an existing one.
+   *
+   * @param parameters the encoded parameters
+   * @return the parameters
+   */
+  public static Parameters parameters(final String parameters) {
+    return new Parameters(new StringBuilder(parameters));
+  }
+
+  /**
+   * Encodes a query parameter value.
+   *
+   * @param value the value
+   * @return the encoded value
+   */
+  public static String encode(final String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  /** <code>Parameters</code> appends encoded query parameters. */
+  public static class Parameters {
+    private final StringBuilder parameters;
+
+    private Parameters(final StringBuilder parameters) {
+      this.parameters = parameters;
+    }
+
+    /**
+     * Adds a parameter, encoding its value.
+     *
+     * @param name the parameter name
+     * @param value the value
+     * @return the parameters
+     */
+    public Parameters add(final String name, final String value) {
+      if (this.parameters.length() > 0) {
+        this.parameters.append('&');
+      }
+      this.parameters.append(name).append('=').append(encode(value));
+      return this;
+    }
+
+    /**
+     * Adds a numeric parameter.
+     *
+     * @param name the parameter name
+     * @param value the value
+     * @return the parameters
+     */
+    public Parameters add(final String name, final int value) {
+      if (this.parameters.length() > 0) {
+        this.parameters.append('&');
+      }
+      this.parameters.append(name).append('=').append(value);
+      return this;
+    }
+
+    /**
+     * Adds the offset and limit for a page of records.
+     *
+     * @param offset the offset of the first record
+     * @param limit the maximum number of records
+     * @return the parameters
+     */
+    public Parameters page(final int offset, final int limit) {
+      return this.add("offset", offset).add("limit", limit);
+    }
+
+    /**
+     * Returns the encoded parameters.
+     *
+     * @return the parameters
+     */
+    public String build() {
+      return this.parameters.toString();
+    }
+  }
+}
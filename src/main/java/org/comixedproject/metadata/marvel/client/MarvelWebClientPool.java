@@ -0,0 +1,123 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * <code>MarvelWebClientPool</code> owns a long-lived {@link WebClient} backed by a bounded pool of
+ * keep-alive connections, so that requests reuse existing connections rather than setting up a new
+ * client and TLS session each time.
+ *
+ * <p>Each call using the client acquires the pool and releases it when done. A pool that has been
+ * replaced is retired, and its connections are only disposed once the last call using it has
+ * released it.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class MarvelWebClientPool {
+  /** The largest response body that will be buffered, since series pages can be quite large. */
+  static final int MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024;
+
+  static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+  static final Duration EVICTION_INTERVAL = Duration.ofSeconds(60);
+
+  @Getter private final MarvelWebClientSettings settings;
+  private final ConnectionProvider connectionProvider;
+  @Getter private final WebClient webClient;
+  private final AtomicInteger users = new AtomicInteger();
+  private final AtomicBoolean disposed = new AtomicBoolean();
+  private volatile boolean retired;
+
+  public MarvelWebClientPool(final MarvelWebClientSettings settings) {
+    log.debug("Creating Marvel web client pool: {}", settings);
+    this.settings = settings;
+    this.connectionProvider =
+        ConnectionProvider.builder("marvel")
+            .maxConnections(settings.getMaxConnections())
+            .pendingAcquireMaxCount(-1)
+            .maxIdleTime(MAX_IDLE_TIME)
+            .evictInBackground(EVICTION_INTERVAL)
+            .build();
+    final HttpClient httpClient =
+        HttpClient.create(this.connectionProvider)
+            .keepAlive(true)
+            .compress(true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, settings.getConnectTimeout())
+            .responseTimeout(Duration.ofMillis(settings.getReadTimeout()));
+    this.webClient =
+        WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .exchangeStrategies(
+                ExchangeStrategies.builder()
+                    .codecs(
+                        configurer ->
+                            configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                    .build())
+            .build();
+  }
+
+  /** Marks the pool as in use by a call. */
+  public void acquire() {
+    this.users.incrementAndGet();
+  }
+
+  /** Marks a call as no longer using the pool, disposing it if it has been retired. */
+  public void release() {
+    if (this.users.decrementAndGet() <= 0 && this.retired) {
+      this.dispose();
+    }
+  }
+
+  /** Marks the pool as replaced, disposing it once no call is using it. */
+  public void retire() {
+    this.retired = true;
+    if (this.users.get() <= 0) {
+      this.dispose();
+    }
+  }
+
+  /**
+   * Returns if the pool has been disposed.
+   *
+   * @return true if disposed
+   */
+  public boolean isDisposed() {
+    return this.disposed.get();
+  }
+
+  /** Releases the pooled connections once any in-flight requests have completed. */
+  public void dispose() {
+    if (this.disposed.compareAndSet(false, true)) {
+      log.debug("Disposing Marvel web client pool");
+      this.connectionProvider.disposeLater().subscribe();
+    }
+  }
+}
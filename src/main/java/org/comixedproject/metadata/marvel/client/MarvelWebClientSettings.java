@@ -0,0 +1,48 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <code>MarvelWebClientSettings</code> holds the connection settings used when creating the web
+ * client shared by all requests to Marvel's online service.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class MarvelWebClientSettings {
+  /** The default connect timeout, in milliseconds. */
+  public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+
+  /** The default read timeout, in milliseconds. */
+  public static final int DEFAULT_READ_TIMEOUT = 30000;
+
+  /** The default maximum number of pooled connections. */
+  public static final int DEFAULT_MAX_CONNECTIONS = 16;
+
+  @Getter private final int connectTimeout;
+  @Getter private final int readTimeout;
+  @Getter private final int maxConnections;
+}
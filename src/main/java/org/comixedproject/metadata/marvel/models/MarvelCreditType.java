@@ -18,37 +18,87 @@
 
 package org.comixedproject.metadata.marvel.models;
 
-import java.util.Arrays;
-import java.util.Optional;
-import lombok.AllArgsConstructor;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import lombok.Getter;
 import org.comixedproject.model.comicbooks.ComicTagType;
 
 /**
- * <code>public enum MarvelCreditType {</code> maps a ComicVine credit type to a {@link
- * ComicTagType}.
+ * <code>MarvelCreditType</code> maps the role of a Marvel creator to a {@link ComicTagType}. Roles
+ * are matched without regard to case, and a role qualified as <code>(cover)</code> is a cover
+ * credit while any other qualifier, such as <code>(variant)</code>, is ignored.
  *
  * @author Darryl L. Pierce
  */
-@AllArgsConstructor
 public enum MarvelCreditType {
-  WRITER("writer", ComicTagType.WRITER),
-  EDITOR("editor", ComicTagType.EDITOR),
-  PENCILLER("penciler", ComicTagType.PENCILLER),
+  WRITER("writer", ComicTagType.WRITER, "plotter", "scripter"),
+  EDITOR("editor", ComicTagType.EDITOR, "editor in chief", "assistant editor"),
+  PENCILLER("penciler", ComicTagType.PENCILLER, "penciller", "painter", "artist"),
   INKER("inker", ComicTagType.INKER),
-  COLORIST("colorist", ComicTagType.COLORIST),
+  COLORIST("colorist", ComicTagType.COLORIST, "colourist"),
   LETTERER("letterer", ComicTagType.LETTERER),
-  COVER("penciler (cover)", ComicTagType.COVER),
+  COVER("penciler (cover)", ComicTagType.COVER, "cover"),
   OTHER("other", ComicTagType.OTHER);
 
-  @Getter private String tagValue;
-  @Getter private ComicTagType tagType;
+  private static final String COVER_QUALIFIER = "cover";
+  private static final Map<String, MarvelCreditType> LOOKUP = new HashMap<>();
 
+  static {
+    for (MarvelCreditType type : values()) {
+      LOOKUP.put(type.tagValue, type);
+      for (String alias : type.aliases) {
+        LOOKUP.put(alias, type);
+      }
+    }
+    // any creator role can be credited for the cover
+    for (MarvelCreditType type : values()) {
+      if (type != COVER && type != OTHER) {
+        LOOKUP.put(String.format("%s (%s)", type.tagValue, COVER_QUALIFIER), COVER);
+        for (String alias : type.aliases) {
+          LOOKUP.put(String.format("%s (%s)", alias, COVER_QUALIFIER), COVER);
+        }
+      }
+    }
+  }
+
+  @Getter private final String tagValue;
+  @Getter private final ComicTagType tagType;
+  private final String[] aliases;
+
+  MarvelCreditType(final String tagValue, final ComicTagType tagType, final String... aliases) {
+    this.tagValue = tagValue;
+    this.tagType = tagType;
+    this.aliases = aliases;
+  }
+
+  /**
+   * Returns the credit type for a role.
+   *
+   * @param value the role
+   * @return the credit type, or {@link #OTHER} if the role isn't known
+   */
   public static MarvelCreditType forValue(final String value) {
-    final Optional<MarvelCreditType> result =
-        Arrays.stream(MarvelCreditType.values())
-            .filter(tag -> tag.getTagValue().equals(value))
-            .findFirst();
-    return (result.isPresent()) ? result.get() : OTHER;
+    if (value == null) {
+      return OTHER;
+    }
+    final MarvelCreditType result = LOOKUP.get(value);
+    return result != null ? result : doFindNormalized(value);
+  }
+
+  private static MarvelCreditType doFindNormalized(final String value) {
+    final String role = value.trim().toLowerCase(Locale.ROOT);
+    final MarvelCreditType result = LOOKUP.get(role);
+    if (result != null) {
+      return result;
+    }
+    final int qualifier = role.indexOf('(');
+    if (qualifier <= 0 || !role.endsWith(")")) {
+      return OTHER;
+    }
+    if (role.substring(qualifier + 1, role.length() - 1).trim().equals(COVER_QUALIFIER)) {
+      return COVER;
+    }
+    return LOOKUP.getOrDefault(role.substring(0, qualifier).trim(), OTHER);
   }
 }
@@ -27,6 +27,10 @@ import lombok.Getter;
  * @author Darryl L. Pierce
  */
 public class MarvelSeries {
+  @JsonProperty("resourceURI")
+  @Getter
+  private String resourceURI;
+
   @JsonProperty("name")
   @Getter
   private String name;
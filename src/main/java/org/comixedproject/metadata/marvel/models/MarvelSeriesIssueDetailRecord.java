@@ -24,7 +24,8 @@ import lombok.Getter;
 
 /**
  * <code>MarvelSeriesIssueDetailRecord</code> represents a single record when scraping an entire
- * series.
+ * series. Only the fields that are mapped are declared, so the rest of each record is skipped while
+ * decoding.
  *
  * @author Darryl L. Pierce
  */
@@ -45,6 +46,10 @@ public class MarvelSeriesIssueDetailRecord {
   @Getter
   private String description;
 
+  @JsonProperty("modified")
+  @Getter
+  private String modified;
+
   @JsonProperty("urls")
   @Getter
   private List<MarvelUrl> urls;
@@ -57,19 +62,15 @@ public class MarvelSeriesIssueDetailRecord {
   @Getter
   private List<MarvelDate> dates;
 
-  @JsonProperty("thumbnail")
+  @JsonProperty("creators")
   @Getter
-  private MarvelThumbnail thumbnail;
+  private MarvelSeriesIssueCreators creators;
 
-  @JsonProperty("images")
+  @JsonProperty("characters")
   @Getter
-  private List<MarvelThumbnail> images;
+  private MarvelIssueCharacters characters;
 
-  @JsonProperty("creators")
+  @JsonProperty("stories")
   @Getter
-  private MarvelSeriesIssueCreators creators;
-
-  /*
-  @JsonProperty("characters") @Getter private List<?> characters;
-  @JsonProperty("stories") @Getter private List<?> stories;
-  */ }
+  private MarvelIssueStories stories;
+}
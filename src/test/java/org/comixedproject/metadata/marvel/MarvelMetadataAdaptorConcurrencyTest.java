@@ -0,0 +1,219 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel;
+
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_PRIVATE_KEY;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_PUBLIC_KEY;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+import org.comixedproject.metadata.model.VolumeMetadata;
+import org.comixedproject.model.metadata.MetadataSource;
+import org.comixedproject.model.metadata.MetadataSourceProperty;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelMetadataAdaptorConcurrencyTest {
+  private static final int TEST_THREAD_COUNT = 8;
+  private static final long TEST_ARRIVAL_TIMEOUT = 10L;
+  private static final String TEST_PUBLIC_KEY = "the.public.key";
+  private static final String TEST_PRIVATE_KEY = "the.private.key";
+  private static final String TEST_SERIES_RESPONSE =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":0,\"limit\":100,\"total\":1,\"count\":1,"
+          + "\"results\":[{\"id\":\"%s\",\"title\":\"Issue #1\",\"issueNumber\":\"1\","
+          + "\"series\":{\"name\":\"Series %s (2001)\"},\"dates\":[],"
+          + "\"creators\":{\"available\":0,\"items\":[]}}]}}";
+  private static final String TEST_DETAILS_RESPONSE =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":0,\"limit\":20,\"total\":1,\"count\":1,"
+          + "\"results\":[{\"id\":\"%s\",\"title\":\"Issue #1\",\"issueNumber\":\"1\","
+          + "\"series\":{\"name\":\"Series (2001)\"},\"dates\":[],\"urls\":[],"
+          + "\"creators\":{\"available\":0,\"items\":[]},"
+          + "\"characters\":{\"available\":0,\"items\":[]},"
+          + "\"stories\":{\"available\":0,\"items\":[]}}]}}";
+  private static final String TEST_VOLUMES_RESPONSE =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":0,\"limit\":20,\"total\":1,\"count\":1,"
+          + "\"results\":[{\"id\":\"1\",\"title\":\"%s (2001)\",\"startYear\":\"2001\","
+          + "\"comics\":{\"available\":10},\"thumbnail\":{\"path\":\"image\",\"extension\":\"jpg\"}}]}}";
+
+  @InjectMocks private MarvelMetadataAdaptor adaptor;
+  @Mock private MetadataSource metadataSource;
+
+  private final Set<MetadataSourceProperty> metadataSourceProperties = new HashSet<>();
+  private MockWebServer marvelServer;
+  private ExecutorService executor;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private volatile CountDownLatch arrivals;
+
+  @Before
+  public void setUp() throws IOException {
+    Mockito.when(metadataSource.getProperties()).thenReturn(metadataSourceProperties);
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_PUBLIC_KEY, TEST_PUBLIC_KEY));
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_PRIVATE_KEY, TEST_PRIVATE_KEY));
+
+    marvelServer = new MockWebServer();
+    marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+              doAwaitArrivals();
+              return doCreateResponse(request);
+            } finally {
+              inFlight.decrementAndGet();
+            }
+          }
+
+          private MockResponse doCreateResponse(final RecordedRequest request) {
+            final List<String> path = request.getRequestUrl().pathSegments();
+            final String body;
+            if (path.size() == 4 && path.get(2).equals("comics")) {
+              body = String.format(TEST_DETAILS_RESPONSE, path.get(3));
+            } else if (path.size() > 3) {
+              body = String.format(TEST_SERIES_RESPONSE, path.get(3), path.get(3));
+            } else {
+              body =
+                  String.format(
+                      TEST_VOLUMES_RESPONSE,
+                      request.getRequestUrl().queryParameter("titleStartsWith"));
+            }
+            return new MockResponse()
+                .setBody(body)
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+    marvelServer.start();
+
+    adaptor.setBaseUrl(String.format("http://localhost:%s", marvelServer.getPort()));
+
+    executor = Executors.newFixedThreadPool(TEST_THREAD_COUNT);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    executor.shutdownNow();
+    marvelServer.shutdown();
+  }
+
+  @Test
+  public void testGetVolumes_concurrentCallsRunInParallel() throws Exception {
+    adaptor.getVolumes("Warm Up", 1, metadataSource);
+
+    final List<Callable<List<VolumeMetadata>>> tasks = new ArrayList<>();
+    for (int index = 0; index < TEST_THREAD_COUNT; index++) {
+      final String series = String.format("Series %d", index);
+      tasks.add(() -> adaptor.getVolumes(series, 1, metadataSource));
+    }
+
+    doHoldUntilAllArrive();
+    final List<Future<List<VolumeMetadata>>> results = executor.invokeAll(tasks);
+
+    for (int index = 0; index < TEST_THREAD_COUNT; index++) {
+      final List<VolumeMetadata> result = results.get(index).get();
+      assertEquals(1, result.size());
+      assertEquals(String.format("Series %d", index), result.get(0).getName());
+    }
+    assertAllInFlight();
+  }
+
+  @Test
+  public void testGetAllIssues_concurrentCallsRunInParallel() throws Exception {
+    adaptor.getAllIssues("999", metadataSource);
+
+    final List<Callable<List<IssueDetailsMetadata>>> tasks = new ArrayList<>();
+    for (int index = 0; index < TEST_THREAD_COUNT; index++) {
+      final String seriesId = String.valueOf(1000 + index);
+      tasks.add(() -> adaptor.getAllIssues(seriesId, metadataSource));
+    }
+
+    doHoldUntilAllArrive();
+    final List<Future<List<IssueDetailsMetadata>>> results = executor.invokeAll(tasks);
+
+    for (int index = 0; index < TEST_THREAD_COUNT; index++) {
+      final List<IssueDetailsMetadata> result = results.get(index).get();
+      assertEquals(1, result.size());
+      assertEquals(String.valueOf(1000 + index), result.get(0).getSourceId());
+    }
+    assertEquals(TEST_THREAD_COUNT + 1, marvelServer.getRequestCount());
+    assertAllInFlight();
+  }
+
+  @Test
+  public void testGetIssueDetailsBatch_fetchesInParallel() throws Exception {
+    adaptor.getIssueDetails("999", metadataSource);
+
+    final List<String> issueIds = new ArrayList<>();
+    for (int index = 0; index < TEST_THREAD_COUNT; index++) {
+      issueIds.add(String.valueOf(1000 + index));
+    }
+
+    doHoldUntilAllArrive();
+    final IssueDetailsBatchResult result = adaptor.getIssueDetails(issueIds, metadataSource);
+
+    assertEquals(issueIds, new ArrayList<>(result.getDetails().keySet()));
+    assertTrue(result.getErrors().isEmpty());
+    assertEquals(TEST_THREAD_COUNT + 1, marvelServer.getRequestCount());
+    assertAllInFlight();
+  }
+
+  private void doHoldUntilAllArrive() {
+    maxInFlight.set(0);
+    arrivals = new CountDownLatch(TEST_THREAD_COUNT);
+  }
+
+  private void doAwaitArrivals() throws InterruptedException {
+    final CountDownLatch latch = arrivals;
+    if (latch != null) {
+      latch.countDown();
+      latch.await(TEST_ARRIVAL_TIMEOUT, TimeUnit.SECONDS);
+    }
+  }
+
+  private void assertAllInFlight() {
+    assertEquals("Calls were serialized", TEST_THREAD_COUNT, maxInFlight.get());
+  }
+}
@@ -35,6 +35,27 @@ public class MarvelMetadataAdaptorProviderTest {
   public void testPropertiesDefined() {
     assertTrue(provider.getProperties().contains(PROPERTY_PUBLIC_KEY));
     assertTrue(provider.getProperties().contains(PROPERTY_PRIVATE_KEY));
+    assertTrue(provider.getProperties().contains(PROPERTY_MAX_CONCURRENT_PAGES));
+    assertTrue(provider.getProperties().contains(PROPERTY_CONNECT_TIMEOUT));
+    assertTrue(provider.getProperties().contains(PROPERTY_READ_TIMEOUT));
+    assertTrue(provider.getProperties().contains(PROPERTY_MAX_CONNECTIONS));
+    assertTrue(provider.getProperties().contains(PROPERTY_CACHE_DIRECTORY));
+    assertTrue(provider.getProperties().contains(PROPERTY_CACHE_TTL));
+    assertTrue(provider.getProperties().contains(PROPERTY_CACHE_MAX_ENTRIES));
+    assertTrue(provider.getProperties().contains(PROPERTY_MEMORY_CACHE_MAX_ENTRIES));
+    assertTrue(provider.getProperties().contains(PROPERTY_MEMORY_CACHE_TTL));
+    assertTrue(provider.getProperties().contains(PROPERTY_REQUESTS_PER_SECOND));
+    assertTrue(provider.getProperties().contains(PROPERTY_REQUESTS_PER_DAY));
+    assertTrue(provider.getProperties().contains(PROPERTY_MAX_RETRIES));
+    assertTrue(provider.getProperties().contains(PROPERTY_RETRY_BACKOFF));
+    assertTrue(provider.getProperties().contains(PROPERTY_RETRY_MAX_BACKOFF));
+    assertTrue(provider.getProperties().contains(PROPERTY_STREAMING));
+    assertTrue(provider.getProperties().contains(PROPERTY_VIRTUAL_THREADS));
+    assertTrue(provider.getProperties().contains(PROPERTY_BULK_MAX_IN_FLIGHT));
+    assertTrue(provider.getProperties().contains(PROPERTY_BATCH_CONCURRENCY));
+    assertTrue(provider.getProperties().contains(PROPERTY_SERIES_PREFETCH));
+    assertTrue(provider.getProperties().contains(PROPERTY_FORMAT));
+    assertTrue(provider.getProperties().contains(PROPERTY_FORMAT_TYPE));
   }
 
   @Test
@@ -18,31 +18,67 @@
 
 package org.comixedproject.metadata.marvel;
 
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_BATCH_CONCURRENCY;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_BULK_MAX_IN_FLIGHT;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_CACHE_DIRECTORY;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_FORMAT;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_FORMAT_TYPE;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_MAX_CONCURRENT_PAGES;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_MAX_RETRIES;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_MEMORY_CACHE_MAX_ENTRIES;
 import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_PRIVATE_KEY;
 import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_PUBLIC_KEY;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_READ_TIMEOUT;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_REQUESTS_PER_DAY;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_SERIES_PREFETCH;
+import static org.comixedproject.metadata.marvel.MarvelMetadataAdaptorProvider.PROPERTY_STREAMING;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.actions.AbstractMarvelScrapingAction;
 import org.comixedproject.metadata.marvel.actions.MarvelGetAllIssuesAction;
 import org.comixedproject.metadata.marvel.actions.MarvelGetIssueAction;
 import org.comixedproject.metadata.marvel.actions.MarvelGetIssueDetailsAction;
 import org.comixedproject.metadata.marvel.actions.MarvelGetVolumesAction;
+import org.comixedproject.metadata.marvel.auth.MarvelRequestSigner;
+import org.comixedproject.metadata.marvel.cache.MarvelResponseCache;
+import org.comixedproject.metadata.marvel.client.MarvelBulkExecutor;
+import org.comixedproject.metadata.marvel.client.MarvelRateLimiter;
+import org.comixedproject.metadata.marvel.client.MarvelRetryPolicy;
+import org.comixedproject.metadata.marvel.client.MarvelTracer;
+import org.comixedproject.metadata.marvel.client.MarvelWebClientPool;
+import org.comixedproject.metadata.marvel.client.MarvelWebClientSettings;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
 import org.comixedproject.metadata.model.IssueMetadata;
 import org.comixedproject.metadata.model.VolumeMetadata;
 import org.comixedproject.model.metadata.MetadataSource;
 import org.comixedproject.model.metadata.MetadataSourceProperty;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MarvelMetadataAdaptorTest {
@@ -51,6 +87,13 @@ public class MarvelMetadataAdaptorTest {
   private static final String TEST_SERIES_ID = "12345";
   private static final String TEST_ISSUE_NUMBER = "17";
   private static final String TEST_ISSUE_ID = "67890";
+  private static final String TEST_OTHER_ISSUE_ID = "67891";
+  private static final String TEST_MISSING_ISSUE_ID = "67892";
+  private static final String TEST_FAILED_ISSUE_ID = "67893";
+  private static final String TEST_PREFETCH_SERIES_ID = "2069";
+  private static final String TEST_FORMAT = "digital comic";
+  private static final long TEST_LAST_SYNC = 1704164645000L;
+  private static final String TEST_FORMAT_TYPE = "comic";
   private static final String TEST_REFERENCE_ID = "97135";
   private static final String TEST_WEB_ADDRESS =
       "http://marvel.com/comics/issue/"
@@ -58,6 +101,11 @@ public class MarvelMetadataAdaptorTest {
           + "/scarlet_witch_2023_2?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1";
   private static final String TEST_PUBLIC_KEY = "the.public.key";
   private static final String TEST_PRIVATE_KEY = "the.private.key";
+  private static final int TEST_MAX_CONCURRENT_PAGES = 7;
+  private static final int TEST_READ_TIMEOUT = 12345;
+  private static final int TEST_REQUESTS_PER_DAY = 500;
+  private static final int TEST_MAX_RETRIES = 5;
+  private static final int TEST_MAX_IN_FLIGHT = 3;
 
   @InjectMocks private MarvelMetadataAdaptor adaptor;
   @Mock private MarvelGetVolumesAction getVolumesAction;
@@ -66,16 +114,28 @@ public class MarvelMetadataAdaptorTest {
   @Mock private MarvelGetAllIssuesAction getAllIssuesAction;
 
   @Mock private MetadataSource metadataSource;
-  @Mock private List<VolumeMetadata> volumeList;
+  @Mock private VolumeMetadata volume;
   @Mock private IssueMetadata issue;
   @Mock private IssueDetailsMetadata issueDetailsMetadata;
-  @Mock private List<IssueDetailsMetadata> allIssues;
+
+  @Mock private MarvelGetIssueDetailsAction otherIssueDetailsAction;
+  @Mock private MarvelGetIssueDetailsAction missingIssueDetailsAction;
+  @Mock private MarvelGetIssueDetailsAction failedIssueDetailsAction;
+  @Mock private IssueDetailsMetadata otherIssueDetailsMetadata;
+  @Mock private MarvelGetAllIssuesAction seriesAction;
+
+  @Rule public TemporaryFolder cacheDirectory = new TemporaryFolder();
 
   final Set<MetadataSourceProperty> metadataSourceProperties = new HashSet<>();
+  final List<VolumeMetadata> volumeList = new ArrayList<>();
+  final List<IssueDetailsMetadata> allIssues = new ArrayList<>();
 
   @Before
   public void setUp() throws MetadataException {
-    Mockito.when(getVolumesAction.execute()).thenReturn(volumeList);
+    adaptor.setPrefetchScheduler(Schedulers.immediate());
+    volumeList.add(volume);
+    allIssues.add(issueDetailsMetadata);
+    Mockito.when(getVolumesAction.executeReactive()).thenReturn(Flux.fromIterable(volumeList));
 
     Mockito.when(metadataSource.getProperties()).thenReturn(metadataSourceProperties);
     metadataSourceProperties.add(
@@ -86,10 +146,7 @@ public class MarvelMetadataAdaptorTest {
 
   @Test
   public void testDoGetIssue() throws MetadataException {
-    final List<IssueMetadata> issueList = new ArrayList<>();
-    issueList.add(issue);
-
-    Mockito.when(getIssueAction.execute()).thenReturn(issueList);
+    Mockito.when(getIssueAction.executeReactive()).thenReturn(Flux.just(issue));
 
     final IssueMetadata result =
         adaptor.doGetIssue(TEST_SERIES_ID, TEST_ISSUE_NUMBER, metadataSource, getIssueAction);
@@ -109,7 +166,7 @@ public class MarvelMetadataAdaptorTest {
         adaptor.getVolumes(TEST_SERIES, TEST_MAX_RECORDS, metadataSource, getVolumesAction);
 
     assertNotNull(result);
-    assertSame(volumeList, result);
+    assertEquals(volumeList, result);
 
     Mockito.verify(getVolumesAction, Mockito.times(1)).setSeries(TEST_SERIES);
     Mockito.verify(getVolumesAction, Mockito.times(1)).setMaxRecords(TEST_MAX_RECORDS);
@@ -117,21 +174,142 @@ public class MarvelMetadataAdaptorTest {
     Mockito.verify(getVolumesAction, Mockito.times(1)).setPrivateKey(TEST_PRIVATE_KEY);
   }
 
+  @Test
+  public void testDoGetIssue_notFound() throws MetadataException {
+    Mockito.when(getIssueAction.executeReactive()).thenReturn(Flux.empty());
+
+    assertNull(
+        adaptor.doGetIssue(TEST_SERIES_ID, TEST_ISSUE_NUMBER, metadataSource, getIssueAction));
+  }
+
+  @Test
+  public void testGetIssueReactive() {
+    Mockito.when(getIssueAction.executeReactive()).thenReturn(Flux.just(issue));
+
+    final Mono<IssueMetadata> result =
+        adaptor.getIssueReactive(TEST_SERIES_ID, TEST_ISSUE_NUMBER, metadataSource, getIssueAction);
+
+    Mockito.verify(getIssueAction, Mockito.never()).executeReactive();
+
+    assertSame(issue, result.block());
+    Mockito.verify(getIssueAction, Mockito.times(1)).setSeries(TEST_SERIES_ID);
+  }
+
+  @Test
+  public void testGetIssueReactive_missingKey() {
+    metadataSourceProperties.clear();
+
+    final Mono<IssueMetadata> result =
+        adaptor.getIssueReactive(TEST_SERIES_ID, TEST_ISSUE_NUMBER, metadataSource, getIssueAction);
+
+    assertThrows(MetadataException.class, () -> doUnwrap(result::block));
+    Mockito.verify(getIssueAction, Mockito.never()).executeReactive();
+  }
+
+  @Test
+  public void testGetVolumesReactive() {
+    final Flux<VolumeMetadata> result =
+        adaptor.getVolumesReactive(TEST_SERIES, TEST_MAX_RECORDS, metadataSource, getVolumesAction);
+
+    Mockito.verify(getVolumesAction, Mockito.never()).executeReactive();
+
+    assertEquals(volumeList, result.collectList().block());
+    assertEquals(1, adaptor.getVolumesCache().size());
+  }
+
+  @Test
+  public void testGetVolumesReactive_failed() {
+    Mockito.when(getVolumesAction.executeReactive())
+        .thenReturn(Flux.error(new MetadataException("failed")));
+
+    final Flux<VolumeMetadata> result =
+        adaptor.getVolumesReactive(TEST_SERIES, TEST_MAX_RECORDS, metadataSource, getVolumesAction);
+
+    assertThrows(MetadataException.class, () -> doUnwrap(() -> result.blockLast()));
+    assertEquals(0, adaptor.getVolumesCache().size());
+  }
+
+  @Test
+  public void testGetVolumes_cached() throws MetadataException {
+    Mockito.when(volume.getName()).thenReturn(TEST_SERIES);
+
+    adaptor.getVolumes(TEST_SERIES, TEST_MAX_RECORDS, metadataSource, getVolumesAction);
+    final List<VolumeMetadata> result =
+        adaptor.getVolumes(TEST_SERIES, TEST_MAX_RECORDS, metadataSource, getVolumesAction);
+
+    assertNotNull(result);
+    assertEquals(1, result.size());
+    assertNotSame(volume, result.get(0));
+    assertEquals(TEST_SERIES, result.get(0).getName());
+    assertEquals(1, adaptor.getVolumesCache().getHitCount());
+    assertEquals(1, adaptor.getVolumesCache().getMissCount());
+
+    Mockito.verify(getVolumesAction, Mockito.times(1)).executeReactive();
+  }
+
+  @Test
+  public void testGetVolumes_differentMaxRecordsNotCached() throws MetadataException {
+    adaptor.getVolumes(TEST_SERIES, TEST_MAX_RECORDS, metadataSource, getVolumesAction);
+    adaptor.getVolumes(TEST_SERIES, TEST_MAX_RECORDS + 1, metadataSource, getVolumesAction);
+
+    Mockito.verify(getVolumesAction, Mockito.times(2)).executeReactive();
+  }
+
   @Test
   public void testGetAllIssues() throws MetadataException {
-    Mockito.when(getAllIssuesAction.execute()).thenReturn(allIssues);
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
 
     final List<IssueDetailsMetadata> result =
         adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
 
     assertNotNull(result);
+    assertEquals(allIssues, result);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setSeriesId(TEST_SERIES_ID);
+    Mockito.verify(getAllIssuesAction, Mockito.times(1))
+        .setMaxConcurrentPages(AbstractMarvelScrapingAction.DEFAULT_MAX_CONCURRENT_PAGES);
+  }
 
+  @Test
+  public void testGetAllIssuesReactive() {
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    final Flux<IssueDetailsMetadata> result =
+        adaptor.getAllIssuesReactive(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.never()).executeReactive();
+
+    assertEquals(allIssues, result.collectList().block());
     Mockito.verify(getAllIssuesAction, Mockito.times(1)).setSeriesId(TEST_SERIES_ID);
   }
 
+  @Test
+  public void testGetAllIssues_maxConcurrentPagesDefined() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(
+            metadataSource,
+            PROPERTY_MAX_CONCURRENT_PAGES,
+            String.valueOf(TEST_MAX_CONCURRENT_PAGES)));
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1))
+        .setMaxConcurrentPages(TEST_MAX_CONCURRENT_PAGES);
+  }
+
+  @Test(expected = MetadataException.class)
+  public void testGetAllIssues_invalidMaxConcurrentPages() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_MAX_CONCURRENT_PAGES, "many"));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+  }
+
   @Test
   public void testGetIssueDetails() throws MetadataException {
-    Mockito.when(getIssueDetailsAction.execute()).thenReturn(issueDetailsMetadata);
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
     final IssueDetailsMetadata result =
         adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
 
@@ -141,6 +319,593 @@ public class MarvelMetadataAdaptorTest {
     Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setComicId(TEST_ISSUE_ID);
   }
 
+  @Test
+  public void testGetIssueDetails_releasesWebClientPool() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    final MarvelWebClientPool pool = adaptor.doAcquireWebClientPool(this.doCreateSettings(0));
+    pool.release();
+    adaptor.doAcquireWebClientPool(this.doCreateSettings(1)).release();
+
+    assertTrue(pool.isDisposed());
+  }
+
+  @Test
+  public void testAcquireWebClientPool_replacedPoolKeptUntilReleased() {
+    final MarvelWebClientPool pool = adaptor.doAcquireWebClientPool(this.doCreateSettings(0));
+    assertSame(pool, adaptor.doAcquireWebClientPool(this.doCreateSettings(0)));
+
+    final MarvelWebClientPool replacement =
+        adaptor.doAcquireWebClientPool(this.doCreateSettings(1));
+
+    assertNotSame(pool, replacement);
+    pool.release();
+    assertFalse(pool.isDisposed());
+    pool.release();
+    assertTrue(pool.isDisposed());
+
+    replacement.release();
+    assertFalse(replacement.isDisposed());
+  }
+
+  @Test
+  public void testGetIssueDetails_notFound() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive()).thenReturn(Mono.empty());
+
+    final IssueDetailsMetadata result =
+        adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    assertNull(result);
+  }
+
+  @Test
+  public void testGetIssueDetailsReactive() {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    final Mono<IssueDetailsMetadata> result =
+        adaptor.getIssueDetailsReactive(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.never()).executeReactive();
+
+    assertSame(issueDetailsMetadata, result.block());
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setComicId(TEST_ISSUE_ID);
+  }
+
+  @Test
+  public void testGetIssueDetailsReactive_missingKey() {
+    metadataSourceProperties.clear();
+
+    final Mono<IssueDetailsMetadata> result =
+        adaptor.getIssueDetailsReactive(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    assertThrows(MetadataException.class, () -> doUnwrap(result::block));
+    Mockito.verify(getIssueDetailsAction, Mockito.never()).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetailsAsync() throws Exception {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    final CompletableFuture<IssueDetailsMetadata> result =
+        adaptor.getIssueDetailsAsync(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    assertSame(issueDetailsMetadata, result.get());
+  }
+
+  @Test
+  public void testGetIssueDetailsAsync_executorReplaced() throws Exception {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(otherIssueDetailsMetadata));
+
+    final CompletableFuture<IssueDetailsMetadata> first =
+        adaptor.getIssueDetailsAsync(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(
+            metadataSource, PROPERTY_BULK_MAX_IN_FLIGHT, String.valueOf(TEST_MAX_IN_FLIGHT)));
+    final CompletableFuture<IssueDetailsMetadata> second =
+        adaptor.getIssueDetailsAsync(TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    assertSame(issueDetailsMetadata, first.get());
+    assertSame(otherIssueDetailsMetadata, second.get());
+  }
+
+  @Test
+  public void testGetIssueDetailsAsync_invalidMaxInFlight() {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_BULK_MAX_IN_FLIGHT, "lots"));
+
+    final CompletableFuture<IssueDetailsMetadata> result =
+        adaptor.getIssueDetailsAsync(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    final ExecutionException error = assertThrows(ExecutionException.class, result::get);
+    assertTrue(error.getCause() instanceof MetadataException);
+  }
+
+  @Test
+  public void testGetIssueDetails_prefetchDisabled() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor
+        .getIssueDetailsReactive(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction, seriesAction)
+        .block();
+
+    Mockito.verify(seriesAction, Mockito.never()).executeReactive();
+    assertEquals(0, adaptor.getSeriesStore().size());
+  }
+
+  @Test
+  public void testGetIssueDetails_prefetchSeries() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_SERIES_PREFETCH, "true"));
+    Mockito.when(otherIssueDetailsMetadata.getSourceId()).thenReturn(TEST_OTHER_ISSUE_ID);
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(getIssueDetailsAction.getSeriesId()).thenReturn(TEST_PREFETCH_SERIES_ID);
+    Mockito.when(seriesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+    Mockito.when(seriesAction.getCompleteIssues()).thenReturn(List.of(otherIssueDetailsMetadata));
+
+    final IssueDetailsMetadata result =
+        adaptor
+            .getIssueDetailsReactive(
+                TEST_ISSUE_ID, metadataSource, getIssueDetailsAction, seriesAction)
+            .block();
+    final IssueDetailsMetadata other =
+        adaptor.getIssueDetails(TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    assertSame(issueDetailsMetadata, result);
+    assertNotNull(other);
+    assertNotSame(otherIssueDetailsMetadata, other);
+    assertEquals(TEST_OTHER_ISSUE_ID, other.getSourceId());
+    assertTrue(adaptor.getSeriesStore().contains(TEST_PREFETCH_SERIES_ID));
+
+    Mockito.verify(seriesAction, Mockito.times(1)).setSeriesId(TEST_PREFETCH_SERIES_ID);
+    Mockito.verify(otherIssueDetailsAction, Mockito.never()).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetails_prefetchSeriesInBackground() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_SERIES_PREFETCH, "true"));
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(getIssueDetailsAction.getSeriesId()).thenReturn(TEST_PREFETCH_SERIES_ID);
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(otherIssueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.getSeriesId()).thenReturn(TEST_PREFETCH_SERIES_ID);
+    Mockito.when(seriesAction.executeReactive()).thenReturn(Flux.never());
+
+    final IssueDetailsMetadata result =
+        adaptor
+            .getIssueDetailsReactive(
+                TEST_ISSUE_ID, metadataSource, getIssueDetailsAction, seriesAction)
+            .block();
+    final IssueDetailsMetadata other =
+        adaptor
+            .getIssueDetailsReactive(
+                TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction, seriesAction)
+            .block();
+
+    assertSame(issueDetailsMetadata, result);
+    assertSame(otherIssueDetailsMetadata, other);
+    assertFalse(adaptor.getSeriesStore().contains(TEST_PREFETCH_SERIES_ID));
+    Mockito.verify(seriesAction, Mockito.times(1)).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetails_prefetchSeriesAlreadyStored() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_SERIES_PREFETCH, "true"));
+    adaptor.getSeriesStore().put(TEST_PREFETCH_SERIES_ID, List.of());
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(getIssueDetailsAction.getSeriesId()).thenReturn(TEST_PREFETCH_SERIES_ID);
+
+    adaptor
+        .getIssueDetailsReactive(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction, seriesAction)
+        .block();
+
+    Mockito.verify(seriesAction, Mockito.never()).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetails_prefetchSeriesFails() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_SERIES_PREFETCH, "true"));
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(getIssueDetailsAction.getSeriesId()).thenReturn(TEST_PREFETCH_SERIES_ID);
+    Mockito.when(seriesAction.executeReactive())
+        .thenReturn(Flux.error(new MetadataException("Failed to receive response")));
+
+    final IssueDetailsMetadata result =
+        adaptor
+            .getIssueDetailsReactive(
+                TEST_ISSUE_ID, metadataSource, getIssueDetailsAction, seriesAction)
+            .block();
+
+    assertSame(issueDetailsMetadata, result);
+    assertFalse(adaptor.getSeriesStore().contains(TEST_PREFETCH_SERIES_ID));
+  }
+
+  @Test
+  public void testGetChangedIssues() throws MetadataException {
+    final Date lastSync = new Date(TEST_LAST_SYNC);
+    final Date highWaterMark = new Date(TEST_LAST_SYNC + 1000L);
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_SERIES_PREFETCH, "true"));
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+    Mockito.when(getAllIssuesAction.getModifiedSince()).thenReturn(lastSync);
+    Mockito.when(getAllIssuesAction.getHighWaterMark()).thenReturn(highWaterMark);
+
+    final SeriesSyncResult result =
+        adaptor.getChangedIssues(TEST_SERIES_ID, lastSync, metadataSource, getAllIssuesAction);
+
+    assertNotNull(result);
+    assertSame(allIssues.get(0), result.getIssues().get(0));
+    assertEquals(highWaterMark, result.getHighWaterMark());
+    assertFalse(adaptor.getSeriesStore().contains(TEST_SERIES_ID));
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setModifiedSince(lastSync);
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setSeriesId(TEST_SERIES_ID);
+  }
+
+  @Test
+  public void testGetAllIssues_withFormat() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_FORMAT, TEST_FORMAT));
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_FORMAT_TYPE, TEST_FORMAT_TYPE));
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setFormat(TEST_FORMAT);
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setFormatType(TEST_FORMAT_TYPE);
+  }
+
+  @Test
+  public void testGetAllIssues_prefetchStoresSeries() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_SERIES_PREFETCH, "true"));
+    Mockito.when(issueDetailsMetadata.getSourceId()).thenReturn(TEST_ISSUE_ID);
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+    Mockito.when(getAllIssuesAction.getCompleteIssues()).thenReturn(allIssues);
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    assertEquals(TEST_ISSUE_ID, adaptor.getSeriesStore().get(TEST_ISSUE_ID).getSourceId());
+  }
+
+  @Test
+  public void testGetIssueDetailsBatch() throws MetadataException {
+    final Map<String, MarvelGetIssueDetailsAction> actions = new HashMap<>();
+    actions.put(TEST_ISSUE_ID, getIssueDetailsAction);
+    actions.put(TEST_OTHER_ISSUE_ID, otherIssueDetailsAction);
+    actions.put(TEST_MISSING_ISSUE_ID, missingIssueDetailsAction);
+    actions.put(TEST_FAILED_ISSUE_ID, failedIssueDetailsAction);
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(otherIssueDetailsMetadata));
+    Mockito.when(missingIssueDetailsAction.executeReactive()).thenReturn(Mono.empty());
+    Mockito.when(failedIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.error(new MetadataException("Failed to receive response")));
+
+    final IssueDetailsBatchResult result =
+        adaptor
+            .getIssueDetailsReactive(
+                List.of(
+                    TEST_ISSUE_ID,
+                    TEST_OTHER_ISSUE_ID,
+                    " " + TEST_ISSUE_ID + " ",
+                    "",
+                    TEST_MISSING_ISSUE_ID,
+                    TEST_FAILED_ISSUE_ID),
+                metadataSource,
+                actions::get)
+            .block();
+
+    assertNotNull(result);
+    assertEquals(
+        List.of(TEST_ISSUE_ID, TEST_OTHER_ISSUE_ID), List.copyOf(result.getDetails().keySet()));
+    assertSame(issueDetailsMetadata, result.getDetails().get(TEST_ISSUE_ID));
+    assertSame(otherIssueDetailsMetadata, result.getDetails().get(TEST_OTHER_ISSUE_ID));
+    assertEquals(Set.of(TEST_MISSING_ISSUE_ID), result.getNotFound());
+    assertEquals(Set.of(TEST_FAILED_ISSUE_ID), result.getErrors().keySet());
+    assertEquals(
+        "Failed to receive response", result.getErrors().get(TEST_FAILED_ISSUE_ID).getMessage());
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetailsBatch_cached() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    final IssueDetailsBatchResult result =
+        adaptor
+            .getIssueDetailsReactive(
+                List.of(TEST_ISSUE_ID), metadataSource, issueId -> otherIssueDetailsAction)
+            .block();
+
+    assertNotNull(result);
+    assertTrue(result.getDetails().containsKey(TEST_ISSUE_ID));
+    assertNotSame(issueDetailsMetadata, result.getDetails().get(TEST_ISSUE_ID));
+    Mockito.verify(otherIssueDetailsAction, Mockito.never()).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetailsBatch_invalidConcurrency() {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_BATCH_CONCURRENCY, "lots"));
+
+    assertThrows(
+        MetadataException.class,
+        () -> adaptor.getIssueDetails(List.of(TEST_ISSUE_ID), metadataSource));
+  }
+
+  @Test
+  public void testRequestSignerIsShared() throws MetadataException {
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    final MarvelRequestSigner signer =
+        adaptor.doGetRequestSigner(TEST_PUBLIC_KEY, TEST_PRIVATE_KEY);
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setRequestSigner(signer);
+    assertNotSame(signer, adaptor.doGetRequestSigner(TEST_PUBLIC_KEY, TEST_PUBLIC_KEY));
+  }
+
+  @Test
+  public void testMeterRegistryIsPassedToActions() throws MetadataException {
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    adaptor.setMeterRegistry(meterRegistry);
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setMeterRegistry(meterRegistry);
+  }
+
+  @Test
+  public void testTracerIsPassedToActions() throws MetadataException {
+    final MarvelTracer tracer = (name, parent) -> MarvelTracer.Span.NOOP;
+    adaptor.setTracer(tracer);
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setTracer(tracer);
+  }
+
+  @Test
+  public void testBulkExecutorIsShared() {
+    final MarvelBulkExecutor first = adaptor.doGetBulkExecutor(false, TEST_MAX_IN_FLIGHT);
+    final MarvelBulkExecutor second = adaptor.doGetBulkExecutor(false, TEST_MAX_IN_FLIGHT);
+    final MarvelBulkExecutor third = adaptor.doGetBulkExecutor(false, TEST_MAX_IN_FLIGHT + 1);
+
+    assertSame(first, second);
+    assertNotSame(first, third);
+    assertEquals(TEST_MAX_IN_FLIGHT + 1, third.getMaxInFlight());
+  }
+
+  @Test
+  public void testGetIssueDetails_cached() throws MetadataException {
+    Mockito.when(issueDetailsMetadata.getSourceId()).thenReturn(TEST_ISSUE_ID);
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    final IssueDetailsMetadata result =
+        adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    assertNotSame(issueDetailsMetadata, result);
+    assertEquals(TEST_ISSUE_ID, result.getSourceId());
+    assertEquals(1, adaptor.getIssueDetailsCache().getHitCount());
+
+    Mockito.verify(otherIssueDetailsAction, Mockito.never()).executeReactive();
+  }
+
+  @Test
+  public void testGetIssueDetails_cachedCopiesNotShared() throws MetadataException {
+    Mockito.when(issueDetailsMetadata.getSourceId()).thenReturn(TEST_ISSUE_ID);
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    final IssueDetailsMetadata first =
+        adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+    first.setSourceId(TEST_OTHER_ISSUE_ID);
+    first.getCharacters().add("Changed");
+
+    final IssueDetailsMetadata result =
+        adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    assertEquals(TEST_ISSUE_ID, result.getSourceId());
+    assertTrue(result.getCharacters().isEmpty());
+  }
+
+  @Test
+  public void testGetIssueDetails_memoryCacheDisabled() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_MEMORY_CACHE_MAX_ENTRIES, "0"));
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(2)).executeReactive();
+  }
+
+  @Test
+  public void testSharedWebClientIsReused() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    adaptor.getIssueDetails(TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    final ArgumentCaptor<WebClient> firstClient = ArgumentCaptor.forClass(WebClient.class);
+    final ArgumentCaptor<WebClient> secondClient = ArgumentCaptor.forClass(WebClient.class);
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setWebClient(firstClient.capture());
+    Mockito.verify(otherIssueDetailsAction, Mockito.times(1)).setWebClient(secondClient.capture());
+
+    assertNotNull(firstClient.getValue());
+    assertSame(firstClient.getValue(), secondClient.getValue());
+  }
+
+  @Test
+  public void testSharedWebClientReplacedWhenSettingsChange() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(
+            metadataSource, PROPERTY_READ_TIMEOUT, String.valueOf(TEST_READ_TIMEOUT)));
+    adaptor.getIssueDetails(TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    final ArgumentCaptor<WebClient> firstClient = ArgumentCaptor.forClass(WebClient.class);
+    final ArgumentCaptor<WebClient> secondClient = ArgumentCaptor.forClass(WebClient.class);
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setWebClient(firstClient.capture());
+    Mockito.verify(otherIssueDetailsAction, Mockito.times(1)).setWebClient(secondClient.capture());
+
+    assertNotSame(firstClient.getValue(), secondClient.getValue());
+  }
+
+  @Test
+  public void testResponseCacheNotConfigured() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setResponseCache(null);
+  }
+
+  @Test
+  public void testResponseCacheIsShared() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(
+            metadataSource, PROPERTY_CACHE_DIRECTORY, cacheDirectory.getRoot().getPath()));
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    adaptor.getIssueDetails(TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    final ArgumentCaptor<MarvelResponseCache> firstCache =
+        ArgumentCaptor.forClass(MarvelResponseCache.class);
+    final ArgumentCaptor<MarvelResponseCache> secondCache =
+        ArgumentCaptor.forClass(MarvelResponseCache.class);
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setResponseCache(firstCache.capture());
+    Mockito.verify(otherIssueDetailsAction, Mockito.times(1))
+        .setResponseCache(secondCache.capture());
+
+    assertNotNull(firstCache.getValue());
+    assertSame(firstCache.getValue(), secondCache.getValue());
+    assertEquals(cacheDirectory.getRoot().toPath(), firstCache.getValue().getDirectory());
+  }
+
+  @Test
+  public void testRateLimiterIsShared() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(
+            metadataSource, PROPERTY_REQUESTS_PER_DAY, String.valueOf(TEST_REQUESTS_PER_DAY)));
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+    Mockito.when(otherIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+    adaptor.getIssueDetails(TEST_OTHER_ISSUE_ID, metadataSource, otherIssueDetailsAction);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1))
+        .setRateLimiter(adaptor.getRateLimiter());
+    Mockito.verify(otherIssueDetailsAction, Mockito.times(1))
+        .setRateLimiter(adaptor.getRateLimiter());
+    assertEquals(TEST_REQUESTS_PER_DAY, adaptor.getRateLimiter().getRequestsPerDay());
+    assertEquals(TEST_REQUESTS_PER_DAY, adaptor.getRemainingDailyQuota());
+  }
+
+  @Test
+  public void testRateLimiterNotConfigured() throws MetadataException {
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setRateLimiter(null);
+    assertNull(adaptor.getRateLimiter());
+    assertEquals(Integer.MAX_VALUE, adaptor.getRemainingDailyQuota());
+  }
+
+  @Test
+  public void testRateLimiterKeptWhenUnchanged() {
+    final MarvelRateLimiter limiter =
+        adaptor.doGetRateLimiter(MarvelRateLimiter.UNLIMITED, TEST_REQUESTS_PER_DAY);
+    limiter.acquire().block();
+
+    assertSame(
+        limiter, adaptor.doGetRateLimiter(MarvelRateLimiter.UNLIMITED, TEST_REQUESTS_PER_DAY));
+    assertEquals(TEST_REQUESTS_PER_DAY - 1, adaptor.getRemainingDailyQuota());
+  }
+
+  @Test
+  public void testRetryPolicy() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(
+            metadataSource, PROPERTY_MAX_RETRIES, String.valueOf(TEST_MAX_RETRIES)));
+    Mockito.when(getIssueDetailsAction.executeReactive())
+        .thenReturn(Mono.just(issueDetailsMetadata));
+
+    adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource, getIssueDetailsAction);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1))
+        .setRetryPolicy(
+            new MarvelRetryPolicy(
+                TEST_MAX_RETRIES,
+                MarvelRetryPolicy.DEFAULT_BACKOFF,
+                MarvelRetryPolicy.DEFAULT_MAX_BACKOFF));
+  }
+
+  @Test
+  public void testStreamingDisabledByDefault() throws MetadataException {
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setStreaming(false);
+  }
+
+  @Test
+  public void testStreamingEnabled() throws MetadataException {
+    metadataSourceProperties.add(
+        new MetadataSourceProperty(metadataSource, PROPERTY_STREAMING, "true"));
+    Mockito.when(getAllIssuesAction.executeReactive()).thenReturn(Flux.fromIterable(allIssues));
+
+    adaptor.getAllIssues(TEST_SERIES_ID, metadataSource, getAllIssuesAction);
+
+    Mockito.verify(getAllIssuesAction, Mockito.times(1)).setStreaming(true);
+  }
+
   @Test
   public void testGetReferenceId() throws MetadataException {
     final String result = adaptor.getReferenceId(TEST_WEB_ADDRESS);
@@ -148,4 +913,19 @@ public class MarvelMetadataAdaptorTest {
     assertNotNull(result);
     assertEquals(TEST_REFERENCE_ID, result);
   }
+
+  private void doUnwrap(final Runnable request) throws Throwable {
+    try {
+      request.run();
+    } catch (RuntimeException error) {
+      throw Exceptions.unwrap(error);
+    }
+  }
+
+  private MarvelWebClientSettings doCreateSettings(final int extraConnections) {
+    return new MarvelWebClientSettings(
+        MarvelWebClientSettings.DEFAULT_CONNECT_TIMEOUT,
+        MarvelWebClientSettings.DEFAULT_READ_TIMEOUT,
+        MarvelWebClientSettings.DEFAULT_MAX_CONNECTIONS + extraConnections);
+  }
 }
@@ -18,35 +18,76 @@
 
 package org.comixedproject.metadata.marvel.actions;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
 import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.cache.MarvelResponseCache;
+import org.comixedproject.metadata.marvel.client.MarvelMetrics;
+import org.comixedproject.metadata.marvel.client.MarvelRetryPolicy;
+import org.comixedproject.metadata.marvel.client.MarvelTracer;
+import org.comixedproject.metadata.marvel.client.RecordingMarvelTracer;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MarvelGetAllIssuesActionTest {
   private static final String TEST_SERIES_ID = "2069";
+  private static final String TEST_ENDPOINT = "series/{id}/comics";
+  private static final String TEST_FORMAT = "comic";
+  private static final String TEST_FORMAT_TYPE = "comic";
+  private static final long TEST_MODIFIED_SINCE = 1704164645000L;
+  private static final long TEST_LAST_MODIFIED = 1733863471000L;
   private static final String TEST_PUBLIC_KEY = "The.Public.Key";
   private static final String TEST_PRIVATE_KEY = "The.Private.Key";
   private static final String TEST_BAD_RESPONSE = "This is not good data";
   private static final String TEST_GOOD_RESPONSE =
       "{\"code\":200,\"status\":\"Ok\",\"copyright\":\"© 2024 MARVEL\",\"attributionText\":\"Data provided by Marvel. © 2024 MARVEL\",\"attributionHTML\":\"<a href=\\\"http://marvel.com\\\">Data provided by Marvel. © 2024 MARVEL</a>\",\"etag\":\"5fea672058c29c0a58cc4761bb91b7edd03cbf60\",\"data\":{\"offset\":0,\"limit\":20,\"total\":20,\"count\":20,\"results\":[{\"id\":10864,\"digitalId\":58756,\"title\":\"Spider-Man (1990) #98\",\"issueNumber\":98,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T00:10:33-0500\",\"isbn\":\"\",\"upc\":\"759606013211009811\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"Mister Fantastic saves Aunt May from Osborn’s doomsday device. \"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10864\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10864/spider-man_1990_98?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=58756&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-11-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/3/a0/619575b272fb3\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/3/a0/619575b272fb3\",\"extension\":\"jpg\"}],\"creators\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10864/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/362\",\"name\":\"Scott Hanna\",\"role\":\"inker\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciler\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/350\",\"name\":\"Richard Starkings\",\"role\":\"letterer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/5237\",\"name\":\"Gregory Wright\",\"role\":\"colorist\"}],\"returned\":5},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10864/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":4,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10864/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23942\",\"name\":\"Cover #23942\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23943\",\"name\":\"Cover #23943\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23944\",\"name\":\"The Final Chapter (Part 4 of 4)\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23945\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":4},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10864/events\",\"items\":[],\"returned\":0}},{\"id\":10863,\"digitalId\":58755,\"title\":\"Spider-Man (1990) #97\",\"issueNumber\":97,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T00:09:53-0500\",\"isbn\":\"\",\"upc\":\"759606013211009711\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"This is it. A souped up Green Goblin unleashes vengeance on Spider-Man.\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10863\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10863/spider-man_1990_97?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=58755&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-11-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/6/a0/619575b1ec7c3\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/6/a0/619575b1ec7c3\",\"extension\":\"jpg\"}],\"creators\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10863/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/362\",\"name\":\"Scott Hanna\",\"role\":\"inker\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciler\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/350\",\"name\":\"Richard Starkings\",\"role\":\"letterer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/5237\",\"name\":\"Gregory Wright\",\"role\":\"colorist\"}],\"returned\":5},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10863/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":4,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10863/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23938\",\"name\":\"Cover #23938\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23939\",\"name\":\"Let the Heavens Tremble at the Power of the Goblin! (The Final Chapter, Part 2 of 4)\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23940\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23941\",\"name\":\"Statement of Ownership\",\"type\":\"statement of ownership\"}],\"returned\":4},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10863/events\",\"items\":[],\"returned\":0}},{\"id\":10862,\"digitalId\":58754,\"title\":\"Spider-Man (1990) #96\",\"issueNumber\":96,\"variantDescription\":\"\",\"description\":\"Madame Web has her own vision for Peter Parker’s life. And maybe an answer or two on how to deal with Green Goblin...\",\"modified\":\"2021-11-18T00:09:18-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"Madame Web has her own vision for Peter Parker’s life. And maybe an answer or two on how to deal with Green Goblin...\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10862\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10862/spider-man_1990_96?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=58754&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-09-10T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":1.99}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/3/a0/619575d1155dd\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/3/a0/619575d1155dd\",\"extension\":\"jpg\"}],\"creators\":{\"available\":11,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10862/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/807\",\"name\":\"Comicraft\",\"role\":\"letterer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/2529\",\"name\":\"Liz Agraphiotis\",\"role\":\"letterer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/350\",\"name\":\"Richard Starkings\",\"role\":\"letterer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/362\",\"name\":\"Scott Hanna\",\"role\":\"inker\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/375\",\"name\":\"Bob Harras\",\"role\":\"editor\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/4131\",\"name\":\"Matt Hicks\",\"role\":\"editor\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1282\",\"name\":\"Ralph Macchio\",\"role\":\"editor\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/3919\",\"name\":\"Atomic Paintbrush\",\"role\":\"colorist\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/5237\",\"name\":\"Gregory Wright\",\"role\":\"colorist\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciller (cover)\"}],\"returned\":11},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10862/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10862/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23935\",\"name\":\"Cover #23935\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23936\",\"name\":\"Who Was Joey Z?\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23937\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10862/events\",\"items\":[],\"returned\":0}},{\"id\":10861,\"digitalId\":0,\"title\":\"Spider-Man (1990) #95\",\"issueNumber\":95,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10861\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10861/spider-man_1990_95?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-09-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10861/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10861/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10861/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23932\",\"name\":\"Cover #23932\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23933\",\"name\":\"Free Fall\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23934\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10861/events\",\"items\":[],\"returned\":0}},{\"id\":10860,\"digitalId\":0,\"title\":\"Spider-Man (1990) #94\",\"issueNumber\":94,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10860\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10860/spider-man_1990_94?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-08-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10860/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10860/characters\",\"items\":[],\"returned\":0},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10860/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23931\",\"name\":\"\",\"type\":\"\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/67035\",\"name\":\"Spider-Man 94 cover\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153330\",\"name\":\"story from Spider-Man (1990) #94\",\"type\":\"interiorStory\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10860/events\",\"items\":[],\"returned\":0}},{\"id\":10859,\"digitalId\":0,\"title\":\"Spider-Man (1990) #93\",\"issueNumber\":93,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10859\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10859/spider-man_1990_93?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-07-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10859/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10859/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10859/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23928\",\"name\":\"Cover #23928\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23929\",\"name\":\"Reborn Again\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23930\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10859/events\",\"items\":[],\"returned\":0}},{\"id\":10858,\"digitalId\":47308,\"title\":\"Spider-Man (1990) #92\",\"issueNumber\":92,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T00:05:57-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"Spider-Man is \\\"stuck in the middle” as his battle with the Trapster continues.\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10858\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10858/spider-man_1990_92?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=47308&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-06-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/d/f0/619575b187119\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/d/f0/619575b187119\",\"extension\":\"jpg\"}],\"creators\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10858/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciller (cover)\"}],\"returned\":2},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10858/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10858/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23925\",\"name\":\"Cover #23925\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23926\",\"name\":\"Stuck in the Middle with You! (Identity Crisis [Part 2])\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23927\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10858/events\",\"items\":[],\"returned\":0}},{\"id\":10857,\"digitalId\":47307,\"title\":\"Spider-Man (1990) #91\",\"issueNumber\":91,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T00:05:21-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"Peter Parker is undergoing an “Identity Crisis,” and a run-in with the Trapster and Shocker doesn’t make things any easier.\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10857\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10857/spider-man_1990_91?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=47307&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-05-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/1/10/619575b16f457\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/1/10/619575b16f457\",\"extension\":\"jpg\"}],\"creators\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10857/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciller (cover)\"}],\"returned\":2},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10857/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":4,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10857/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23921\",\"name\":\"Cover #23921\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23922\",\"name\":\"Cover #23922\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23923\",\"name\":\"Undercover (Identity Crisis [Part 1])\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23924\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":4},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10857/events\",\"items\":[],\"returned\":0}},{\"id\":10856,\"digitalId\":47230,\"title\":\"Spider-Man (1990) #90\",\"issueNumber\":90,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T00:02:46-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"What does a cosmic enemy like Blastaar want with a Friendly Neighborhood Wall-Crawler? Find out here.\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10856\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10856/spider-man_1990_90?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=47230&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-04-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/e/20/6195759716c15\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/e/20/6195759716c15\",\"extension\":\"jpg\"}],\"creators\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10856/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciller (cover)\"}],\"returned\":2},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10856/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10856/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23918\",\"name\":\"Cover #23918\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23919\",\"name\":\"It Started on Yancy Street ... Again!\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23920\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10856/events\",\"items\":[],\"returned\":0}},{\"id\":10854,\"digitalId\":47229,\"title\":\"Spider-Man (1990) #89\",\"issueNumber\":89,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T11:48:58-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"Guest-starring Punisher! Spider-Man is pulled into a “spider-hunt” when he becomes the criminal world’s Most Wanted.\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10854\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10854/spider-man_1990_89?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=47229&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-03-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/e/a0/6195759717c94\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/e/a0/6195759717c94\",\"extension\":\"jpg\"}],\"creators\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10854/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciller (cover)\"}],\"returned\":2},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10854/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":4,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10854/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23913\",\"name\":\"Cover #23913\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23914\",\"name\":\"Cover #23914\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23915\",\"name\":\"Spider, Spider (Spiderhunt, Part 3)\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23916\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":4},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10854/events\",\"items\":[],\"returned\":0}},{\"id\":10853,\"digitalId\":47228,\"title\":\"Spider-Man (1990) #88\",\"issueNumber\":88,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2021-11-18T11:47:41-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[{\"type\":\"issue_solicit_text\",\"language\":\"en-us\",\"text\":\"An aspect of Green Goblin haunts Spider-Man in a ghoulish fray.\"}],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10853\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10853/spider-man_1990_88?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=47228&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-02-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2021-11-18T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/1/00/6195759716c3a\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/1/00/6195759716c3a\",\"extension\":\"jpg\"}],\"creators\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10853/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/1286\",\"name\":\"Howard Mackie\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13196\",\"name\":\"John Romita Jr.\",\"role\":\"penciller (cover)\"}],\"returned\":2},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10853/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10853/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23910\",\"name\":\"Cover #23910\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23911\",\"name\":\"Who Did Joey Z?\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23912\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10853/events\",\"items\":[],\"returned\":0}},{\"id\":10852,\"digitalId\":0,\"title\":\"Spider-Man (1990) #87\",\"issueNumber\":87,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10852\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10852/spider-man_1990_87?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1998-01-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10852/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10852/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10852/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23907\",\"name\":\"Cover #23907\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23908\",\"name\":\"Enemies ... A Love Story?\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23909\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10852/events\",\"items\":[],\"returned\":0}},{\"id\":10851,\"digitalId\":0,\"title\":\"Spider-Man (1990) #86\",\"issueNumber\":86,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10851\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10851/spider-man_1990_86?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-12-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10851/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10851/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":4,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10851/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23903\",\"name\":\"Cover #23903\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23904\",\"name\":\"The Span of Years\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23905\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23906\",\"name\":\"Statement of Ownership\",\"type\":\"statement of ownership\"}],\"returned\":4},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10851/events\",\"items\":[],\"returned\":0}},{\"id\":10850,\"digitalId\":0,\"title\":\"Spider-Man (1990) #85\",\"issueNumber\":85,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10850\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10850/spider-man_1990_85?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-11-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10850/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10850/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":3,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10850/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23900\",\"name\":\"Cover #23900\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23901\",\"name\":\"Little Lies\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23902\",\"name\":\"Crawl Space\",\"type\":\"letters\"}],\"returned\":3},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10850/events\",\"items\":[],\"returned\":0}},{\"id\":10849,\"digitalId\":0,\"title\":\"Spider-Man (1990) #84\",\"issueNumber\":84,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10849\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10849/spider-man_1990_84?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-10-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10849/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10849/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10849/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23897\",\"name\":\"Cover #23897\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23898\",\"name\":\"Nothing Stops the Juggernaut!\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23899\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153328\",\"name\":\"cover from Spider-Man (1990) #84\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153329\",\"name\":\"story from Spider-Man (1990) #84\",\"type\":\"interiorStory\"}],\"returned\":5},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10849/events\",\"items\":[],\"returned\":0}},{\"id\":10848,\"digitalId\":0,\"title\":\"Spider-Man (1990) #83\",\"issueNumber\":83,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10848\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10848/spider-man_1990_83?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-09-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10848/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10848/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10848/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23894\",\"name\":\"Cover #23894\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23895\",\"name\":\"Vertigo\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23896\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153326\",\"name\":\"cover from Spider-Man (1990) #83\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153327\",\"name\":\"story from Spider-Man (1990) #83\",\"type\":\"interiorStory\"}],\"returned\":5},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10848/events\",\"items\":[],\"returned\":0}},{\"id\":10847,\"digitalId\":0,\"title\":\"Spider-Man (1990) #82\",\"issueNumber\":82,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10847\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10847/spider-man_1990_82?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-08-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10847/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10847/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10847/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23891\",\"name\":\"Cover #23891\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23892\",\"name\":\"You've Got to Have Friends (of Humanity?)\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23893\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153324\",\"name\":\"cover from Spider-Man (1990) #82\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153325\",\"name\":\"story from Spider-Man (1990) #82\",\"type\":\"interiorStory\"}],\"returned\":5},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10847/events\",\"items\":[],\"returned\":0}},{\"id\":10766,\"digitalId\":71833,\"title\":\"Spider-Man (1990) #-1\",\"issueNumber\":-1,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"2024-12-10T15:44:31-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":0,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10766\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10766/spider-man_1990_-1?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"purchase\",\"url\":\"http://comicstore.marvel.com/Spider-Man-1/digital-comic/71833?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=71833&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-07-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2024-12-10T00:00:00-0500\"},{\"type\":\"digitalPurchaseDate\",\"date\":\"2024-12-10T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/9/a0/6758d28d3d3ab\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/9/a0/6758d28d3d3ab\",\"extension\":\"jpg\"}],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10766/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10766/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009325\",\"name\":\"Norman Osborn\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":2},\"stories\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10766/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23741\",\"name\":\"Cover #23741\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23742\",\"name\":\"A Prelude in Red\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23743\",\"name\":\"Post It to Peter!\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/178907\",\"name\":\"cover #-1\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/178908\",\"name\":\"story #-1\",\"type\":\"interiorStory\"}],\"returned\":5},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10766/events\",\"items\":[],\"returned\":0}},{\"id\":10846,\"digitalId\":0,\"title\":\"Spider-Man (1990) #81\",\"issueNumber\":81,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10846\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10846/spider-man_1990_81?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-06-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10846/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10846/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10846/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23888\",\"name\":\"Cover #23888\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23889\",\"name\":\"Shadow of the Cat\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23890\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153322\",\"name\":\"cover from Spider-Man (1990) #81\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153323\",\"name\":\"story from Spider-Man (1990) #81\",\"type\":\"interiorStory\"}],\"returned\":5},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10846/events\",\"items\":[],\"returned\":0}},{\"id\":10845,\"digitalId\":0,\"title\":\"Spider-Man (1990) #80\",\"issueNumber\":80,\"variantDescription\":\"\",\"description\":\"\",\"modified\":\"-0001-11-30T00:00:00-0500\",\"isbn\":\"\",\"upc\":\"\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":36,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/10845\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/10845/spider-man_1990_80?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/2069\",\"name\":\"Spider-Man (1990 - 1998)\"},\"variants\":[],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"1997-05-01T00:00:00-0400\"},{\"type\":\"focDate\",\"date\":\"-0001-11-30T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":0}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/b/40/image_not_available\",\"extension\":\"jpg\"},\"images\":[],\"creators\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10845/creators\",\"items\":[],\"returned\":0},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10845/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009610\",\"name\":\"Spider-Man (Peter Parker)\"}],\"returned\":1},\"stories\":{\"available\":5,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10845/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23885\",\"name\":\"Cover #23885\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23886\",\"name\":\"Blood Simple\",\"type\":\"interiorStory\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/23887\",\"name\":\"Crawl Space\",\"type\":\"letters\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153320\",\"name\":\"cover from Spider-Man (1990) #80\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/153321\",\"name\":\"story from Spider-Man (1990) #80\",\"type\":\"interiorStory\"}],\"returned\":5},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/10845/events\",\"items\":[],\"returned\":0}}]}}";
 
+  private static final int TEST_TOTAL_RECORDS = 250;
+  private static final int TEST_MAX_RETRIES = 2;
+  private static final int TEST_BACKOFF = 10;
+  private static final int TEST_MAX_BACKOFF = 50;
+  private static final String TEST_PARTIAL_RESPONSE =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":0,\"limit\":100,\"total\":1,\"count\":1,"
+          + "\"results\":[{\"id\":\"10864\",\"title\":\"Issue #1\",\"issueNumber\":\"1\","
+          + "\"series\":{\"name\":\"Spider-Man (1990)\"},\"dates\":[],"
+          + "\"creators\":{\"available\":0,\"items\":[]}}]}}";
+  private static final String TEST_ETAG = "5fea672058c29c0a58cc4761bb91b7edd03cbf60";
+
   @InjectMocks private MarvelGetAllIssuesAction action;
 
+  @Rule public TemporaryFolder cacheDirectory = new TemporaryFolder();
+
   public MockWebServer marvelServer;
 
   @Before
@@ -107,5 +148,542 @@ public class MarvelGetAllIssuesActionTest {
 
     assertNotNull(result);
     assertFalse(result.isEmpty());
+    assertTrue(result.get(0).getWebAddress().startsWith("http://marvel.com/comics/issue/"));
+    assertTrue(result.get(0).getCharacters().contains("Spider-Man (Peter Parker)"));
+    assertFalse(result.get(0).getStories().isEmpty());
+    assertEquals(result.size(), action.getCompleteIssues().size());
+    assertEquals(new Date(TEST_LAST_MODIFIED), action.getHighWaterMark());
+  }
+
+  @Test
+  public void testExecute_nothingNewer() throws MetadataException {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    final Date modifiedSince = new Date(TEST_LAST_MODIFIED + 1000L);
+    action.setModifiedSince(modifiedSince);
+
+    action.execute();
+
+    assertEquals(modifiedSince, action.getHighWaterMark());
+  }
+
+  @Test
+  public void testGetHighWaterMark_nothingReturned() {
+    assertNull(action.getHighWaterMark());
+  }
+
+  @Test
+  public void testCreateParameters() {
+    assertEquals("noVariants=true&orderBy=issueNumber%2Ctitle", action.doCreateParameters());
+  }
+
+  @Test
+  public void testCreateParameters_withFilters() {
+    action.setFormat(TEST_FORMAT);
+    action.setFormatType(TEST_FORMAT_TYPE);
+    action.setModifiedSince(new Date(TEST_MODIFIED_SINCE));
+
+    assertEquals(
+        "noVariants=true&orderBy=issueNumber%2Ctitle&format=comic&formatType=comic"
+            + "&modifiedSince=2024-01-02T03%3A04%3A05Z",
+        action.doCreateParameters());
+  }
+
+  @Test
+  public void testExecute_withoutCharactersOrStories() throws MetadataException {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_PARTIAL_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertEquals(1, result.size());
+    assertTrue(result.get(0).getCharacters().isEmpty());
+    assertTrue(action.getCompleteIssues().isEmpty());
+  }
+
+  @Test
+  public void testExecute_cachedResponse() throws MetadataException {
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    action.setMeterRegistry(meterRegistry);
+    action.setResponseCache(
+        new MarvelResponseCache(cacheDirectory.getRoot().toPath(), Duration.ofMinutes(5), 100));
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final List<IssueDetailsMetadata> firstResult = action.execute();
+    final List<IssueDetailsMetadata> secondResult = action.execute();
+
+    assertEquals(firstResult.size(), secondResult.size());
+    assertEquals(firstResult.get(0).getSourceId(), secondResult.get(0).getSourceId());
+    assertEquals(1, this.marvelServer.getRequestCount());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(MarvelMetrics.CACHE)
+            .tag("result", MarvelMetrics.CACHE_MISS)
+            .counter()
+            .count(),
+        0.0);
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(MarvelMetrics.CACHE)
+            .tag("result", MarvelMetrics.CACHE_HIT)
+            .counter()
+            .count(),
+        0.0);
+  }
+
+  @Test
+  public void testExecute_expiredCachedResponseNotModified()
+      throws MetadataException, InterruptedException {
+    action.setResponseCache(
+        new MarvelResponseCache(cacheDirectory.getRoot().toPath(), Duration.ZERO, 100));
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    this.marvelServer.enqueue(new MockResponse().setResponseCode(304));
+
+    final List<IssueDetailsMetadata> firstResult = action.execute();
+    final List<IssueDetailsMetadata> secondResult = action.execute();
+
+    assertEquals(firstResult.size(), secondResult.size());
+    assertEquals(2, this.marvelServer.getRequestCount());
+    assertNull(this.marvelServer.takeRequest().getHeader(HttpHeaders.IF_NONE_MATCH));
+    assertEquals(TEST_ETAG, this.marvelServer.takeRequest().getHeader(HttpHeaders.IF_NONE_MATCH));
+  }
+
+  @Test
+  public void testExecute_expiredCachedResponseModified() throws MetadataException {
+    action.setResponseCache(
+        new MarvelResponseCache(cacheDirectory.getRoot().toPath(), Duration.ZERO, 100));
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(createPage(0, 100, 1))
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    action.execute();
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertEquals(1, result.size());
+    assertEquals(2, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_multiplePages() throws MetadataException {
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(TEST_TOTAL_RECORDS, result.size());
+    for (int index = 0; index < TEST_TOTAL_RECORDS; index++) {
+      assertEquals(String.valueOf(index), result.get(index).getSourceId());
+    }
+    assertEquals(3, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_multiplePagesWithShiftedRecords() throws MetadataException {
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            // each later page starts with the last record of the page before it
+            return new MockResponse()
+                .setBody(createPage(Math.max(0, offset - 1), limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(TEST_TOTAL_RECORDS, result.size());
+    for (int index = 0; index < TEST_TOTAL_RECORDS; index++) {
+      assertEquals(String.valueOf(index), result.get(index).getSourceId());
+    }
+  }
+
+  @Test
+  public void testExecute_multiplePagesWithMissingRecord() throws MetadataException {
+    final AtomicInteger requests = new AtomicInteger();
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            // while the listing is first fetched, the second page repeats the last record of the
+            // first page and the record that should end it is on neither page
+            final int start =
+                requests.incrementAndGet() <= 3
+                        && offset == AbstractMarvelScrapingAction.MAX_PAGE_SIZE
+                    ? offset - 1
+                    : offset;
+            return new MockResponse()
+                .setBody(createPage(start, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(TEST_TOTAL_RECORDS, result.size());
+    assertEquals(
+        IntStream.range(0, TEST_TOTAL_RECORDS)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.toSet()),
+        result.stream().map(IssueDetailsMetadata::getSourceId).collect(Collectors.toSet()));
+    assertEquals(
+        String.valueOf(2 * AbstractMarvelScrapingAction.MAX_PAGE_SIZE - 1),
+        result.get(result.size() - 1).getSourceId());
+    assertEquals(6, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_multiplePagesRecordsMetrics() throws MetadataException {
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    action.setMeterRegistry(meterRegistry);
+    action.setRetryPolicy(new MarvelRetryPolicy(TEST_MAX_RETRIES, TEST_BACKOFF, TEST_MAX_BACKOFF));
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            if (offset == 100 && failed.compareAndSet(false, true)) {
+              return new MockResponse().setResponseCode(502);
+            }
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    action.execute();
+
+    assertEquals(
+        3,
+        meterRegistry
+            .get(MarvelMetrics.REQUESTS)
+            .tags("action", "MarvelGetAllIssuesAction", "endpoint", TEST_ENDPOINT, "status", "200")
+            .timer()
+            .count());
+    assertEquals(
+        1,
+        meterRegistry
+            .get(MarvelMetrics.REQUESTS)
+            .tags("endpoint", TEST_ENDPOINT, "status", "502")
+            .timer()
+            .count());
+    assertEquals(
+        1.0,
+        meterRegistry.get(MarvelMetrics.RETRIES).tag("endpoint", TEST_ENDPOINT).counter().count(),
+        0.0);
+    assertEquals(3, meterRegistry.get(MarvelMetrics.DECODE).timer().count());
+    assertEquals(3, meterRegistry.get(MarvelMetrics.RESPONSE_BYTES).summary().count());
+    assertEquals(
+        TEST_TOTAL_RECORDS,
+        meterRegistry.get(MarvelMetrics.PAGE_RECORDS).summary().totalAmount(),
+        0.0);
+    assertEquals(TEST_TOTAL_RECORDS, meterRegistry.get(MarvelMetrics.MAPPING).timer().count());
+    assertEquals(1, meterRegistry.get(MarvelMetrics.PAGES).summary().count());
+    assertEquals(3.0, meterRegistry.get(MarvelMetrics.PAGES).summary().totalAmount(), 0.0);
+  }
+
+  @Test
+  public void testExecute_multiplePagesTracesPages() throws MetadataException {
+    final RecordingMarvelTracer tracer = new RecordingMarvelTracer();
+    action.setTracer(tracer);
+    action.setRetryPolicy(new MarvelRetryPolicy(TEST_MAX_RETRIES, TEST_BACKOFF, TEST_MAX_BACKOFF));
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            if (offset == 100 && failed.compareAndSet(false, true)) {
+              return new MockResponse().setResponseCode(502);
+            }
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    action.execute();
+
+    final List<RecordingMarvelTracer.RecordedSpan> calls = tracer.getSpans(MarvelTracer.CALL_SPAN);
+    assertEquals(1, calls.size());
+    final RecordingMarvelTracer.RecordedSpan call = calls.get(0);
+    assertNull(call.getParent());
+    assertEquals(1, call.getEndCount());
+    assertEquals(TEST_ENDPOINT, call.getAttributes().get(MarvelTracer.ATTRIBUTE_ENDPOINT));
+    assertEquals(
+        (long) TEST_TOTAL_RECORDS, call.getAttributes().get(MarvelTracer.ATTRIBUTE_RECORDS));
+
+    final List<RecordingMarvelTracer.RecordedSpan> pages = tracer.getSpans(MarvelTracer.PAGE_SPAN);
+    assertEquals(3, pages.size());
+    for (RecordingMarvelTracer.RecordedSpan page : pages) {
+      assertSame(call, page.getParent());
+      assertEquals(1, page.getEndCount());
+      assertEquals(200L, page.getAttributes().get(MarvelTracer.ATTRIBUTE_STATUS_CODE));
+      assertEquals(100L, page.getAttributes().get(MarvelTracer.ATTRIBUTE_LIMIT));
+      assertTrue((Long) page.getAttributes().get(MarvelTracer.ATTRIBUTE_PAYLOAD_SIZE) > 0L);
+      assertTrue(page.getAttributes().containsKey(MarvelTracer.ATTRIBUTE_DECODE_DURATION));
+    }
+    final RecordingMarvelTracer.RecordedSpan retried =
+        pages.stream()
+            .filter(page -> page.getAttributes().get(MarvelTracer.ATTRIBUTE_OFFSET).equals(100L))
+            .findFirst()
+            .orElseThrow();
+    assertEquals(2L, retried.getAttributes().get(MarvelTracer.ATTRIBUTE_ATTEMPTS));
+  }
+
+  @Test
+  public void testExecute_pageRetriedAfterServerError() throws MetadataException {
+    action.setRetryPolicy(new MarvelRetryPolicy(TEST_MAX_RETRIES, TEST_BACKOFF, TEST_MAX_BACKOFF));
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            if (offset == 100 && failed.compareAndSet(false, true)) {
+              return new MockResponse().setResponseCode(502);
+            }
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertEquals(TEST_TOTAL_RECORDS, result.size());
+    assertEquals(4, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_pageRetriedAfterDisconnect() throws MetadataException {
+    action.setRetryPolicy(new MarvelRetryPolicy(TEST_MAX_RETRIES, TEST_BACKOFF, TEST_MAX_BACKOFF));
+    final AtomicBoolean failed = new AtomicBoolean(false);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            if (offset == 200 && failed.compareAndSet(false, true)) {
+              return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+            }
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertEquals(TEST_TOTAL_RECORDS, result.size());
+    assertEquals(4, this.marvelServer.getRequestCount());
+  }
+
+  @Test(expected = MetadataException.class)
+  public void testExecute_retriesExhausted() throws MetadataException {
+    action.setRetryPolicy(new MarvelRetryPolicy(TEST_MAX_RETRIES, TEST_BACKOFF, TEST_MAX_BACKOFF));
+    for (int index = 0; index <= TEST_MAX_RETRIES; index++) {
+      this.marvelServer.enqueue(new MockResponse().setResponseCode(503));
+    }
+
+    try {
+      action.execute();
+    } finally {
+      assertEquals(TEST_MAX_RETRIES + 1, this.marvelServer.getRequestCount());
+    }
+  }
+
+  @Test
+  public void testExecute_streamingMultiplePages() throws MetadataException {
+    action.setStreaming(true);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .throttleBody(1024, 1, TimeUnit.MILLISECONDS);
+          }
+        });
+
+    final List<IssueDetailsMetadata> result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(TEST_TOTAL_RECORDS, result.size());
+    for (int index = 0; index < TEST_TOTAL_RECORDS; index++) {
+      assertEquals(String.valueOf(index), result.get(index).getSourceId());
+    }
+    assertEquals(3, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_streamingRecordsMetrics() throws MetadataException {
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    action.setMeterRegistry(meterRegistry);
+    action.setStreaming(true);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    action.execute();
+
+    assertEquals(
+        3,
+        meterRegistry
+            .get(MarvelMetrics.REQUESTS)
+            .tags("endpoint", TEST_ENDPOINT, "status", "200")
+            .timer()
+            .count());
+    assertEquals(
+        TEST_TOTAL_RECORDS,
+        meterRegistry.get(MarvelMetrics.PAGE_RECORDS).summary().totalAmount(),
+        0.0);
+    assertTrue(meterRegistry.get(MarvelMetrics.RESPONSE_BYTES).summary().totalAmount() > 0.0);
+    assertEquals(3.0, meterRegistry.get(MarvelMetrics.PAGES).summary().totalAmount(), 0.0);
+    assertNull(meterRegistry.find(MarvelMetrics.DECODE).timer());
+  }
+
+  @Test
+  public void testExecute_streamingTracesPages() throws MetadataException {
+    final RecordingMarvelTracer tracer = new RecordingMarvelTracer();
+    action.setTracer(tracer);
+    action.setStreaming(true);
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    action.execute();
+
+    final RecordingMarvelTracer.RecordedSpan call = tracer.getSpans(MarvelTracer.CALL_SPAN).get(0);
+    assertEquals(
+        (long) TEST_TOTAL_RECORDS, call.getAttributes().get(MarvelTracer.ATTRIBUTE_RECORDS));
+    final List<RecordingMarvelTracer.RecordedSpan> pages = tracer.getSpans(MarvelTracer.PAGE_SPAN);
+    assertEquals(3, pages.size());
+    assertEquals(
+        List.of(0L, 100L, 200L),
+        pages.stream()
+            .map(page -> page.getAttributes().get(MarvelTracer.ATTRIBUTE_OFFSET))
+            .sorted()
+            .collect(Collectors.toList()));
+    assertEquals(50L, pages.get(2).getAttributes().get(MarvelTracer.ATTRIBUTE_RECORDS));
+    assertTrue((Long) pages.get(0).getAttributes().get(MarvelTracer.ATTRIBUTE_PAYLOAD_SIZE) > 0L);
+    assertFalse(pages.get(0).getAttributes().containsKey(MarvelTracer.ATTRIBUTE_DECODE_DURATION));
+  }
+
+  @Test(expected = MetadataException.class)
+  public void testExecute_streamingBadResponse() throws MetadataException {
+    action.setStreaming(true);
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_BAD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    action.execute();
+  }
+
+  @Test
+  public void testExecuteReactive() {
+    this.marvelServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(final RecordedRequest request) {
+            final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+            return new MockResponse()
+                .setBody(createPage(offset, limit, TEST_TOTAL_RECORDS))
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+          }
+        });
+
+    final Flux<IssueDetailsMetadata> result = action.executeReactive();
+
+    assertEquals(0, this.marvelServer.getRequestCount());
+    assertEquals("0", result.blockFirst().getSourceId());
+    assertEquals(TEST_TOTAL_RECORDS, result.count().block().intValue());
+  }
+
+  @Test
+  public void testExecuteReactive_missingSeriesId() {
+    action.setSeriesId("");
+
+    final Throwable error = action.executeReactive().materialize().blockFirst().getThrowable();
+
+    assertTrue(error instanceof MetadataException);
+  }
+
+  static String createPage(final int offset, final int limit, final int total) {
+    final int count = Math.max(0, Math.min(limit, total - offset));
+    final String results =
+        IntStream.range(offset, offset + count)
+            .mapToObj(
+                id ->
+                    String.format(
+                        "{\"id\":%d,\"title\":\"Issue #%d\",\"issueNumber\":\"%d\","
+                            + "\"series\":{\"name\":\"The Series (2001 - 2010)\"},"
+                            + "\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"2001-03-14T00:00:00-0500\"}],"
+                            + "\"creators\":{\"available\":0,\"items\":[]}}",
+                        id, id, id))
+            .collect(Collectors.joining(","));
+    return String.format(
+        "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":%d,\"limit\":%d,\"total\":%d,"
+            + "\"count\":%d,\"results\":[%s]}}",
+        offset, limit, total, count, results);
   }
 }
@@ -115,4 +115,18 @@ public class MarvelGetIssueActionTest {
     assertNotNull(result);
     assertFalse(result.isEmpty());
   }
+
+  @Test
+  public void testExecute_streaming() throws MetadataException {
+    action.setStreaming(true);
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final List<IssueMetadata> result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(2, result.size());
+  }
 }
@@ -18,12 +18,26 @@
 
 package org.comixedproject.metadata.marvel.actions;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.client.MarvelMetrics;
+import org.comixedproject.metadata.marvel.client.MarvelRateLimiter;
+import org.comixedproject.metadata.marvel.client.MarvelRetryPolicy;
+import org.comixedproject.metadata.marvel.client.MarvelTracer;
+import org.comixedproject.metadata.marvel.client.MarvelWebClientPool;
+import org.comixedproject.metadata.marvel.client.MarvelWebClientSettings;
+import org.comixedproject.metadata.marvel.client.RecordingMarvelTracer;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
 import org.junit.After;
 import org.junit.Before;
@@ -33,13 +47,22 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MarvelGetIssueDetailsActionTest {
   private static final String TEST_COMIC_ID = "92917";
+  private static final String TEST_SERIES_ID = "33277";
   private static final String TEST_PUBLIC_KEY = "The.Public.Key";
   private static final String TEST_PRIVATE_KEY = "The.Private.Key";
+  private static final int TEST_REQUESTS_PER_SECOND = 5;
+  private static final int TEST_REQUESTS_PER_DAY = 10;
+  private static final String TEST_EMPTY_RESPONSE =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":0,\"limit\":20,\"total\":0,\"count\":0,\"results\":[]}}";
   private static final String TEST_BAD_RESPONSE = "This is not good data";
+  private static final String TEST_QUOTA_EXCEEDED_RESPONSE =
+      "{\"code\":\"RequestThrottled\",\"message\":\"You have exceeded your rate limit.  Please try again later.\"}";
   private static final String TEST_GOOD_RESPONSE =
       "{\"code\":200,\"status\":\"Ok\",\"copyright\":\"© 2024 MARVEL\",\"attributionText\":\"Data provided by Marvel. © 2024 MARVEL\",\"attributionHTML\":\"<a href=\\\"http://marvel.com\\\">Data provided by Marvel. © 2024 MARVEL</a>\",\"etag\":\"442cf6ba842678372b90ce41df29eafceb6d8d4a\",\"data\":{\"offset\":0,\"limit\":20,\"total\":1,\"count\":1,\"results\":[{\"id\":97135,\"digitalId\":61869,\"title\":\"Scarlet Witch (2023) #2\",\"issueNumber\":2,\"variantDescription\":\"\",\"description\":\"SCARLET WITCH BATTLES DREAMQUEEN!   Wanda Maximoff is no stranger to grief, so when Viv Vision stumbles through Wanda's door, exhausted and terrified of the nightmares playing her mother's death on repeat, Wanda dives into Viv's dreams to find the cause of the android's suffering. And it turns out Viv isn't alone in her mind… Scarlet Witch faces off against DREAMQUEEN in a reality-bending battle for Viv's freedom! PLUS! This issue includes a special super-heroic back-up story featuring Scarlet Witch and Storm celebrating Black History Month!\",\"modified\":\"2023-08-22T15:57:05-0400\",\"isbn\":\"\",\"upc\":\"75960620235500211\",\"diamondCode\":\"\",\"ean\":\"\",\"issn\":\"\",\"format\":\"Comic\",\"pageCount\":40,\"textObjects\":[],\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/97135\",\"urls\":[{\"type\":\"detail\",\"url\":\"http://marvel.com/comics/issue/97135/scarlet_witch_2023_2?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"purchase\",\"url\":\"http://comicstore.marvel.com/Scarlet-Witch-2/digital-comic/61869?utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"},{\"type\":\"reader\",\"url\":\"http://marvel.com/digitalcomics/view.htm?iid=61869&utm_campaign=apiRef&utm_source=763df8a7c3c0f6d3bb7fcf088bbf6ee1\"}],\"series\":{\"resourceURI\":\"http://gateway.marvel.com/v1/public/series/33277\",\"name\":\"Scarlet Witch (2023 - Present)\"},\"variants\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/106412\",\"name\":\"Scarlet Witch (2023) #2 (Variant)\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/106741\",\"name\":\"Scarlet Witch (2023) #2 (Variant)\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/107434\",\"name\":\"Scarlet Witch (2023) #2 (Variant)\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/comics/107730\",\"name\":\"Scarlet Witch (2023) #2 (Variant)\"}],\"collections\":[],\"collectedIssues\":[],\"dates\":[{\"type\":\"onsaleDate\",\"date\":\"2023-02-01T00:00:00-0500\"},{\"type\":\"focDate\",\"date\":\"2022-12-19T00:00:00-0500\"},{\"type\":\"unlimitedDate\",\"date\":\"2023-01-19T00:00:00-0500\"},{\"type\":\"digitalPurchaseDate\",\"date\":\"2023-01-19T00:00:00-0500\"}],\"prices\":[{\"type\":\"printPrice\",\"price\":4.99}],\"thumbnail\":{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/6/30/63d28f429c20a\",\"extension\":\"jpg\"},\"images\":[{\"path\":\"http://i.annihil.us/u/prod/marvel/i/mg/6/30/63d28f429c20a\",\"extension\":\"jpg\"}],\"creators\":{\"available\":9,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/97135/creators\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/12964\",\"name\":\"Christopher Allen\",\"role\":\"inker\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13174\",\"name\":\"Elisabetta D'AMICO\",\"role\":\"inker\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/9408\",\"name\":\"Sara Pichelli\",\"role\":\"inker\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/12449\",\"name\":\"Russell Dauterman\",\"role\":\"penciler (cover)\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/14104\",\"name\":\"Steve Orlando\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/14153\",\"name\":\"Stephanie Renee Williams\",\"role\":\"writer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/12980\",\"name\":\"Vc Cory Petit\",\"role\":\"letterer\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/13046\",\"name\":\"Alanna Smith\",\"role\":\"editor\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/creators/10279\",\"name\":\"Matthew Wilson\",\"role\":\"colorist\"}],\"returned\":9},\"characters\":{\"available\":1,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/97135/characters\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/characters/1009562\",\"name\":\"Scarlet Witch\"}],\"returned\":1},\"stories\":{\"available\":2,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/97135/stories\",\"items\":[{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/215338\",\"name\":\"cover from Scarlet Witch (2022) #2\",\"type\":\"cover\"},{\"resourceURI\":\"http://gateway.marvel.com/v1/public/stories/215339\",\"name\":\"story from Scarlet Witch (2022) #2\",\"type\":\"interiorStory\"}],\"returned\":2},\"events\":{\"available\":0,\"collectionURI\":\"http://gateway.marvel.com/v1/public/comics/97135/events\",\"items\":[],\"returned\":0}}]}}";
 
@@ -104,5 +127,197 @@ public class MarvelGetIssueDetailsActionTest {
     final IssueDetailsMetadata result = action.execute();
 
     assertNotNull(result);
+    assertEquals(TEST_SERIES_ID, action.getSeriesId());
+  }
+
+  @Test
+  public void testExecute_signsRequest() throws MetadataException, InterruptedException {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    action.execute();
+
+    final HttpUrl url = this.marvelServer.takeRequest().getRequestUrl();
+    assertEquals(TEST_PUBLIC_KEY, url.queryParameter("apikey"));
+    assertEquals(
+        DigestUtils.md5DigestAsHex(
+            String.format("%s%s%s", url.queryParameter("ts"), TEST_PRIVATE_KEY, TEST_PUBLIC_KEY)
+                .getBytes()),
+        url.queryParameter("hash"));
+  }
+
+  @Test
+  public void testExecute_notFound() throws MetadataException {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_EMPTY_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final IssueDetailsMetadata result = action.execute();
+
+    assertNull(result);
+  }
+
+  @Test
+  public void testExecuteReactive() {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final Mono<IssueDetailsMetadata> result = action.executeReactive();
+
+    assertEquals(0, this.marvelServer.getRequestCount());
+    assertEquals("97135", result.block().getSourceId());
+  }
+
+  @Test
+  public void testExecute_withSharedWebClient() throws MetadataException {
+    final MarvelWebClientPool pool =
+        new MarvelWebClientPool(
+            new MarvelWebClientSettings(
+                MarvelWebClientSettings.DEFAULT_CONNECT_TIMEOUT,
+                MarvelWebClientSettings.DEFAULT_READ_TIMEOUT,
+                MarvelWebClientSettings.DEFAULT_MAX_CONNECTIONS));
+    action.setWebClient(pool.getWebClient());
+
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final IssueDetailsMetadata result = action.execute();
+
+    assertNotNull(result);
+
+    pool.dispose();
+  }
+
+  @Test
+  public void testExecute_withRateLimiter() throws MetadataException {
+    final MarvelRateLimiter rateLimiter =
+        new MarvelRateLimiter(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY);
+    action.setRateLimiter(rateLimiter);
+
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final IssueDetailsMetadata result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(TEST_REQUESTS_PER_DAY - 1, rateLimiter.getRemainingQuota());
+  }
+
+  @Test
+  public void testExecute_tracesCall() throws MetadataException {
+    final RecordingMarvelTracer tracer = new RecordingMarvelTracer();
+    action.setTracer(tracer);
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    action.execute();
+
+    final RecordingMarvelTracer.RecordedSpan call = tracer.getSpans(MarvelTracer.CALL_SPAN).get(0);
+    assertEquals("comics/{id}", call.getAttributes().get(MarvelTracer.ATTRIBUTE_ENDPOINT));
+    assertEquals(1L, call.getAttributes().get(MarvelTracer.ATTRIBUTE_RECORDS));
+    assertEquals(1, call.getEndCount());
+    final RecordingMarvelTracer.RecordedSpan page = tracer.getSpans(MarvelTracer.PAGE_SPAN).get(0);
+    assertSame(call, page.getParent());
+    assertEquals(200L, page.getAttributes().get(MarvelTracer.ATTRIBUTE_STATUS_CODE));
+    assertFalse(page.getAttributes().containsKey(MarvelTracer.ATTRIBUTE_OFFSET));
+  }
+
+  @Test
+  public void testExecute_dailyQuotaExceeded() {
+    final MarvelRateLimiter rateLimiter =
+        new MarvelRateLimiter(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY);
+    action.setRateLimiter(rateLimiter);
+    action.setRetryPolicy(new MarvelRetryPolicy(1, 10, 1000));
+
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setResponseCode(429)
+            .setBody(TEST_QUOTA_EXCEEDED_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final MetadataException error = assertThrows(MetadataException.class, () -> action.execute());
+
+    assertEquals("Marvel rate limit exceeded", error.getMessage());
+    assertEquals(0, rateLimiter.getRemainingQuota());
+    assertEquals(1, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_tooManyRequests() throws MetadataException {
+    final MarvelRateLimiter rateLimiter =
+        new MarvelRateLimiter(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY);
+    action.setRateLimiter(rateLimiter);
+    action.setRetryPolicy(new MarvelRetryPolicy(1, 10, 1000));
+
+    this.marvelServer.enqueue(new MockResponse().setResponseCode(429));
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final IssueDetailsMetadata result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(2, this.marvelServer.getRequestCount());
+    assertEquals(TEST_REQUESTS_PER_DAY - 2, rateLimiter.getRemainingQuota());
+  }
+
+  @Test
+  public void testExecute_tooManyRequestsWithRetryAfter() throws MetadataException {
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    action.setMeterRegistry(meterRegistry);
+    final MarvelRateLimiter rateLimiter =
+        new MarvelRateLimiter(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY);
+    action.setRateLimiter(rateLimiter);
+    action.setRetryPolicy(new MarvelRetryPolicy(1, 10, 1000));
+
+    this.marvelServer.enqueue(
+        new MockResponse().setResponseCode(429).addHeader(HttpHeaders.RETRY_AFTER, "0"));
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    final IssueDetailsMetadata result = action.execute();
+
+    assertNotNull(result);
+    assertEquals(2, this.marvelServer.getRequestCount());
+    assertEquals(TEST_REQUESTS_PER_DAY - 2, rateLimiter.getRemainingQuota());
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(MarvelMetrics.THROTTLED)
+            .tags("action", "MarvelGetIssueDetailsAction", "endpoint", "comics/{id}")
+            .counter()
+            .count(),
+        0.0);
+    assertEquals(
+        1.0,
+        meterRegistry.get(MarvelMetrics.RETRIES).tag("endpoint", "comics/{id}").counter().count(),
+        0.0);
+  }
+
+  @Test
+  public void testExecute_dailyQuotaExhausted() {
+    final MarvelRateLimiter rateLimiter =
+        new MarvelRateLimiter(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY);
+    rateLimiter.exhaust();
+    action.setRateLimiter(rateLimiter);
+
+    final MetadataException error = assertThrows(MetadataException.class, () -> action.execute());
+
+    assertEquals("Marvel daily request quota exhausted", error.getMessage());
+    assertEquals(0, this.marvelServer.getRequestCount());
   }
 }
@@ -19,12 +19,20 @@
 package org.comixedproject.metadata.marvel.actions;
 
 import static junit.framework.TestCase.*;
+import static org.junit.Assert.assertThrows;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.comixedproject.metadata.MetadataException;
+import org.comixedproject.metadata.marvel.client.MarvelTracer;
+import org.comixedproject.metadata.marvel.client.RecordingMarvelTracer;
 import org.comixedproject.metadata.model.VolumeMetadata;
 import org.junit.After;
 import org.junit.Before;
@@ -37,7 +45,17 @@ import org.springframework.http.MediaType;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MarvelGetVolumesActionTest {
+  private static final int TEST_MAX_RECORDS = 5;
+  private static final int TEST_PAGED_MAX_RECORDS = 150;
+  private static final int TEST_TOTAL_VOLUMES = 250;
+  private static final String TEST_PAGE_RESPONSE =
+      "{\"code\":200,\"status\":\"Ok\",\"data\":{\"offset\":%d,\"limit\":%d,\"total\":%d,"
+          + "\"count\":%d,\"results\":[%s]}}";
+  private static final String TEST_VOLUME_RECORD =
+      "{\"id\":\"%d\",\"title\":\"Series %d (2001)\",\"startYear\":\"2001\","
+          + "\"comics\":{\"available\":10},\"thumbnail\":{\"path\":\"image\",\"extension\":\"jpg\"}}";
   private static final String TEST_SERIES = "spider-man";
+  private static final String TEST_SERIES_WITH_RESERVED_CHARACTERS = "Cloak & Dagger {100%}";
   private static final String TEST_PUBLIC_KEY = "The.Public.Key";
   private static final String TEST_PRIVATE_KEY = "The.Private.Key";
   private static final String TEST_BAD_RESPONSE = "This is not good data";
@@ -113,6 +131,85 @@ public class MarvelGetVolumesActionTest {
     assertEquals(1, result.size());
   }
 
+  @Test
+  public void testExecute_pagesUntilMaxRecords() throws MetadataException, InterruptedException {
+    this.marvelServer.setDispatcher(this.createPageDispatcher(TEST_TOTAL_VOLUMES));
+    action.setMaxRecords(TEST_PAGED_MAX_RECORDS);
+
+    final List<VolumeMetadata> result = action.execute();
+
+    assertEquals(TEST_PAGED_MAX_RECORDS, result.size());
+    assertEquals(String.valueOf(TEST_PAGED_MAX_RECORDS - 1), result.get(result.size() - 1).getId());
+    assertEquals(2, this.marvelServer.getRequestCount());
+    final HttpUrl first = this.marvelServer.takeRequest().getRequestUrl();
+    assertEquals("0", first.queryParameter("offset"));
+    assertEquals("100", first.queryParameter("limit"));
+    final HttpUrl second = this.marvelServer.takeRequest().getRequestUrl();
+    assertEquals("100", second.queryParameter("offset"));
+    assertEquals("50", second.queryParameter("limit"));
+  }
+
+  @Test
+  public void testExecute_tracesPages() throws MetadataException {
+    final RecordingMarvelTracer tracer = new RecordingMarvelTracer();
+    action.setTracer(tracer);
+    this.marvelServer.setDispatcher(this.createPageDispatcher(TEST_TOTAL_VOLUMES));
+    action.setMaxRecords(TEST_PAGED_MAX_RECORDS);
+
+    action.execute();
+
+    final List<RecordingMarvelTracer.RecordedSpan> calls = tracer.getSpans(MarvelTracer.CALL_SPAN);
+    assertEquals(1, calls.size());
+    assertEquals(1, calls.get(0).getEndCount());
+    assertEquals(
+        "MarvelGetVolumesAction", calls.get(0).getAttributes().get(MarvelTracer.ATTRIBUTE_ACTION));
+    assertEquals(
+        (long) TEST_PAGED_MAX_RECORDS,
+        calls.get(0).getAttributes().get(MarvelTracer.ATTRIBUTE_RECORDS));
+    final List<RecordingMarvelTracer.RecordedSpan> pages = tracer.getSpans(MarvelTracer.PAGE_SPAN);
+    assertEquals(2, pages.size());
+    assertSame(calls.get(0), pages.get(0).getParent());
+    assertSame(calls.get(0), pages.get(1).getParent());
+    assertEquals(100L, pages.get(1).getAttributes().get(MarvelTracer.ATTRIBUTE_OFFSET));
+    assertEquals(50L, pages.get(1).getAttributes().get(MarvelTracer.ATTRIBUTE_LIMIT));
+    assertEquals(200L, pages.get(1).getAttributes().get(MarvelTracer.ATTRIBUTE_STATUS_CODE));
+  }
+
+  @Test
+  public void testExecute_tracesFailure() {
+    final RecordingMarvelTracer tracer = new RecordingMarvelTracer();
+    action.setTracer(tracer);
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_BAD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+    assertThrows(MetadataException.class, () -> action.execute());
+
+    final RecordingMarvelTracer.RecordedSpan call = tracer.getSpans(MarvelTracer.CALL_SPAN).get(0);
+    assertNotNull(call.getError());
+    assertEquals(1, call.getEndCount());
+    assertNotNull(tracer.getSpans(MarvelTracer.PAGE_SPAN).get(0).getError());
+  }
+
+  @Test
+  public void testExecute_pagesUntilTotal() throws MetadataException {
+    this.marvelServer.setDispatcher(this.createPageDispatcher(TEST_PAGED_MAX_RECORDS));
+
+    final List<VolumeMetadata> result = action.execute();
+
+    assertEquals(TEST_PAGED_MAX_RECORDS, result.size());
+    assertEquals(2, this.marvelServer.getRequestCount());
+  }
+
+  @Test
+  public void testExecute_noMaxRecords() throws MetadataException {
+    action.setMaxRecords(0);
+
+    assertTrue(action.execute().isEmpty());
+    assertEquals(0, this.marvelServer.getRequestCount());
+  }
+
   @Test
   public void testExecute_fewerRecordsReceivedThanRequested() throws MetadataException {
     this.marvelServer.enqueue(
@@ -140,4 +237,53 @@ public class MarvelGetVolumesActionTest {
     assertNotNull(result);
     assertFalse(result.isEmpty());
   }
+
+  @Test
+  public void testExecute_requestsSortedPage() throws MetadataException, InterruptedException {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    action.setMaxRecords(TEST_MAX_RECORDS);
+
+    action.execute();
+
+    final HttpUrl url = this.marvelServer.takeRequest().getRequestUrl();
+    assertEquals("title", url.queryParameter("orderBy"));
+    assertEquals(String.valueOf(TEST_MAX_RECORDS), url.queryParameter("limit"));
+  }
+
+  @Test
+  public void testExecute_encodesSeries() throws MetadataException, InterruptedException {
+    this.marvelServer.enqueue(
+        new MockResponse()
+            .setBody(TEST_GOOD_RESPONSE)
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    action.setSeries(TEST_SERIES_WITH_RESERVED_CHARACTERS);
+    action.setMaxRecords(TEST_MAX_RECORDS);
+
+    action.execute();
+
+    final HttpUrl url = this.marvelServer.takeRequest().getRequestUrl();
+    assertEquals(TEST_SERIES_WITH_RESERVED_CHARACTERS, url.queryParameter("titleStartsWith"));
+    assertEquals("title", url.queryParameter("orderBy"));
+  }
+
+  private Dispatcher createPageDispatcher(final int total) {
+    return new Dispatcher() {
+      @Override
+      public MockResponse dispatch(final RecordedRequest request) {
+        final int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+        final int limit = Integer.parseInt(request.getRequestUrl().queryParameter("limit"));
+        final int count = Math.max(0, Math.min(limit, total - offset));
+        final String records =
+            IntStream.range(offset, offset + count)
+                .mapToObj(id -> String.format(TEST_VOLUME_RECORD, id, id))
+                .collect(Collectors.joining(","));
+        return new MockResponse()
+            .setBody(String.format(TEST_PAGE_RESPONSE, offset, limit, total, count, records))
+            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+      }
+    };
+  }
 }
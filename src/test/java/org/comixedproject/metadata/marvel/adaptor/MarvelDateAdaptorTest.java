@@ -0,0 +1,115 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.adaptor;
+
+import static org.junit.Assert.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.comixedproject.metadata.marvel.models.MarvelDate;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelDateAdaptorTest {
+  private static final String TEST_COVER_DATE = "2024-01-17T00:00:00-0500";
+  private static final String TEST_STORE_DATE = "2024-02-21T00:00:00-0500";
+  private static final String TEST_UNDEFINED_DATE = "-0001-11-30T00:00:00-0500";
+  private static final String TEST_INVALID_DATE = "not a date";
+
+  @InjectMocks private MarvelDateAdaptor adaptor;
+  @Mock private MarvelDate coverDate;
+  @Mock private MarvelDate storeDate;
+  @Mock private MarvelDate otherDate;
+
+  private final List<MarvelDate> dates = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    dates.add(otherDate);
+    dates.add(coverDate);
+    dates.add(storeDate);
+  }
+
+  @Test
+  public void testExecute() {
+    this.doStubDates(TEST_COVER_DATE, TEST_STORE_DATE);
+
+    final MarvelDateAdaptor.DateDetail result = adaptor.execute(dates);
+
+    assertNotNull(result);
+    assertEquals(asDate(TEST_COVER_DATE), result.getCoverDate());
+    assertEquals(asDate(TEST_STORE_DATE), result.getStoreDate());
+  }
+
+  @Test
+  public void testExecute_undefinedDate() {
+    this.doStubDates(TEST_UNDEFINED_DATE, TEST_STORE_DATE);
+
+    final MarvelDateAdaptor.DateDetail result = adaptor.execute(dates);
+
+    assertNull(result.getCoverDate());
+    assertEquals(asDate(TEST_STORE_DATE), result.getStoreDate());
+  }
+
+  @Test
+  public void testParse() {
+    assertEquals(asDate(TEST_COVER_DATE), adaptor.parse(TEST_COVER_DATE));
+    assertNull(adaptor.parse(TEST_UNDEFINED_DATE));
+    assertNull(adaptor.parse(TEST_INVALID_DATE));
+  }
+
+  @Test
+  public void testExecute_invalidDate() {
+    this.doStubDates(TEST_COVER_DATE, TEST_INVALID_DATE);
+
+    final MarvelDateAdaptor.DateDetail result = adaptor.execute(dates);
+
+    assertEquals(asDate(TEST_COVER_DATE), result.getCoverDate());
+    assertNull(result.getStoreDate());
+  }
+
+  @Test
+  public void testExecute_noDates() {
+    final MarvelDateAdaptor.DateDetail result = adaptor.execute(null);
+
+    assertNull(result.getCoverDate());
+    assertNull(result.getStoreDate());
+  }
+
+  private void doStubDates(final String cover, final String store) {
+    Mockito.when(coverDate.getType()).thenReturn(MarvelDateAdaptor.COVER_DATE_TYPE);
+    Mockito.when(coverDate.getDate()).thenReturn(cover);
+    Mockito.when(storeDate.getType()).thenReturn(MarvelDateAdaptor.STORE_DATE_TYPE);
+    Mockito.when(storeDate.getDate()).thenReturn(store);
+    Mockito.when(otherDate.getType()).thenReturn("unlimitedDate");
+  }
+
+  private Date asDate(final String date) {
+    return Date.from(
+        OffsetDateTime.parse(date.replaceFirst("(\\d{2})(\\d{2})$", "$1:$2")).toInstant());
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.adaptor;
+
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.List;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+import org.comixedproject.metadata.model.VolumeMetadata;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MetadataCopyAdaptorTest {
+  private static final String TEST_ISSUE_ID = "67890";
+  private static final String TEST_SERIES = "The Series";
+  private static final String TEST_ISSUE_NUMBER = "17";
+  private static final String TEST_CHARACTER = "Spider-Man";
+  private static final String TEST_CREATOR = "Stan Lee";
+  private static final String TEST_ROLE = "writer";
+  private static final long TEST_COVER_DATE = 1704164645000L;
+  private static final String TEST_VOLUME_ID = "2069";
+  private static final Integer TEST_ISSUE_COUNT = 71;
+
+  private final MetadataCopyAdaptor adaptor = MetadataCopyAdaptor.getInstance();
+  private IssueDetailsMetadata details;
+  private VolumeMetadata volume;
+
+  @Before
+  public void setUp() {
+    details = new IssueDetailsMetadata();
+    details.setSourceId(TEST_ISSUE_ID);
+    details.setSeries(TEST_SERIES);
+    details.setIssueNumber(TEST_ISSUE_NUMBER);
+    details.setCoverDate(new Date(TEST_COVER_DATE));
+    details.getCharacters().add(TEST_CHARACTER);
+    details.getCredits().add(new IssueDetailsMetadata.CreditEntry(TEST_CREATOR, TEST_ROLE));
+
+    volume = new VolumeMetadata();
+    volume.setId(TEST_VOLUME_ID);
+    volume.setName(TEST_SERIES);
+    volume.setIssueCount(TEST_ISSUE_COUNT);
+  }
+
+  @Test
+  public void testCopyIssueDetails() {
+    final IssueDetailsMetadata result = adaptor.copyIssueDetails(details);
+
+    assertNotSame(details, result);
+    assertEquals(TEST_ISSUE_ID, result.getSourceId());
+    assertEquals(TEST_SERIES, result.getSeries());
+    assertEquals(TEST_ISSUE_NUMBER, result.getIssueNumber());
+    assertEquals(details.getCoverDate(), result.getCoverDate());
+    assertNotSame(details.getCoverDate(), result.getCoverDate());
+    assertEquals(List.of(TEST_CHARACTER), result.getCharacters());
+    assertEquals(1, result.getCredits().size());
+    assertNull(result.getStoreDate());
+  }
+
+  @Test
+  public void testCopyIssueDetails_changesNotShared() {
+    final IssueDetailsMetadata result = adaptor.copyIssueDetails(details);
+
+    result.getCharacters().clear();
+    result.getCoverDate().setTime(0L);
+
+    assertEquals(List.of(TEST_CHARACTER), details.getCharacters());
+    assertEquals(TEST_COVER_DATE, details.getCoverDate().getTime());
+  }
+
+  @Test
+  public void testCopyIssueDetails_null() {
+    assertNull(adaptor.copyIssueDetails(null));
+  }
+
+  @Test
+  public void testCopyAllIssueDetails() {
+    final List<IssueDetailsMetadata> result = adaptor.copyAllIssueDetails(List.of(details));
+
+    assertEquals(1, result.size());
+    assertNotSame(details, result.get(0));
+    assertEquals(TEST_ISSUE_ID, result.get(0).getSourceId());
+  }
+
+  @Test
+  public void testCopyVolumes() {
+    final List<VolumeMetadata> result = adaptor.copyVolumes(List.of(volume));
+
+    assertEquals(1, result.size());
+    assertNotSame(volume, result.get(0));
+    assertEquals(TEST_VOLUME_ID, result.get(0).getId());
+    assertEquals(TEST_SERIES, result.get(0).getName());
+    assertEquals(TEST_ISSUE_COUNT, result.get(0).getIssueCount());
+  }
+}
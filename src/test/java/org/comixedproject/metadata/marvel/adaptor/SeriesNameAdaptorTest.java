@@ -65,4 +65,26 @@ public class SeriesNameAdaptorTest {
     assertEquals(TEST_SERIES_NAME, result.getName());
     assertEquals(TEST_START_YEAR, result.getStartYear());
   }
+
+  @Test
+  public void testExecute_repeatedName() {
+    final SeriesNameAdaptor.SeriesDetail first = adaptor.execute(TEST_SERIES_WITH_START_YEAR_ONLY);
+    final SeriesNameAdaptor.SeriesDetail second = adaptor.execute(TEST_SERIES_WITH_START_YEAR_ONLY);
+
+    assertSame(first, second);
+    assertEquals(1, adaptor.getHitCount());
+    assertEquals(1, adaptor.getMissCount());
+  }
+
+  @Test
+  public void testExecute_cacheIsBounded() {
+    final SeriesNameAdaptor.SeriesDetail first = adaptor.execute(TEST_SERIES_WITH_START_YEAR_ONLY);
+    for (int index = 0; index < SeriesNameAdaptor.CACHE_SIZE; index++) {
+      adaptor.execute(String.format("Series %d (2001)", index));
+    }
+
+    assertNotSame(first, adaptor.execute(TEST_SERIES_WITH_START_YEAR_ONLY));
+    assertEquals(0, adaptor.getHitCount());
+    assertEquals(SeriesNameAdaptor.CACHE_SIZE + 2, adaptor.getMissCount());
+  }
 }
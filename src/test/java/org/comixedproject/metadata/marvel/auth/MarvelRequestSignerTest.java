@@ -0,0 +1,96 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.auth;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.util.DigestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelRequestSignerTest {
+  private static final String TEST_PUBLIC_KEY = "public.key";
+  private static final String TEST_PRIVATE_KEY = "private.key";
+  private static final long TEST_INTERVAL = 1000L;
+  private static final long TEST_NOW = 1704164645123L;
+  private static final long TEST_TIMESTAMP = 1704164645000L;
+
+  @Mock private Clock clock;
+
+  private MarvelRequestSigner signer;
+
+  @Before
+  public void setUp() {
+    Mockito.when(clock.millis()).thenReturn(TEST_NOW);
+    signer = new MarvelRequestSigner(TEST_PUBLIC_KEY, TEST_PRIVATE_KEY, TEST_INTERVAL, clock);
+  }
+
+  @Test
+  public void testGetHash() {
+    assertEquals(createHash(TEST_TIMESTAMP), signer.getHash(TEST_TIMESTAMP));
+    assertEquals(createHash(0L), signer.getHash(0L));
+    assertEquals(createHash(-1L), signer.getHash(-1L));
+  }
+
+  @Test
+  public void testSign() {
+    final MarvelRequestSigner.Signature result = signer.sign();
+
+    assertEquals(TEST_TIMESTAMP, result.getTimestamp());
+    assertEquals(createHash(TEST_TIMESTAMP), result.getHash());
+  }
+
+  @Test
+  public void testSign_sameInterval() {
+    final MarvelRequestSigner.Signature first = signer.sign();
+    Mockito.when(clock.millis()).thenReturn(TEST_TIMESTAMP + TEST_INTERVAL - 1L);
+
+    assertSame(first, signer.sign());
+  }
+
+  @Test
+  public void testSign_nextInterval() {
+    final MarvelRequestSigner.Signature first = signer.sign();
+    Mockito.when(clock.millis()).thenReturn(TEST_TIMESTAMP + TEST_INTERVAL);
+
+    final MarvelRequestSigner.Signature result = signer.sign();
+
+    assertNotSame(first, result);
+    assertEquals(TEST_TIMESTAMP + TEST_INTERVAL, result.getTimestamp());
+    assertEquals(createHash(TEST_TIMESTAMP + TEST_INTERVAL), result.getHash());
+  }
+
+  @Test
+  public void testIsFor() {
+    assertTrue(signer.isFor(TEST_PUBLIC_KEY, TEST_PRIVATE_KEY));
+    assertFalse(signer.isFor(TEST_PUBLIC_KEY, TEST_PUBLIC_KEY));
+    assertFalse(signer.isFor(TEST_PRIVATE_KEY, TEST_PRIVATE_KEY));
+  }
+
+  private String createHash(final long timestamp) {
+    return DigestUtils.md5DigestAsHex(
+        String.format("%d%s%s", timestamp, TEST_PRIVATE_KEY, TEST_PUBLIC_KEY).getBytes());
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.cache;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelMemoryCacheTest {
+  private static final int TEST_MAX_ENTRIES = 2;
+  private static final Duration TEST_TTL = Duration.ofMinutes(5);
+
+  private MarvelMemoryCache<String, String> cache;
+
+  @Before
+  public void setUp() {
+    cache = new MarvelMemoryCache<>(TEST_MAX_ENTRIES, TEST_TTL);
+  }
+
+  @Test
+  public void testGet_miss() {
+    assertNull(cache.get("one"));
+    assertEquals(0, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testGet_hit() {
+    cache.put("one", "1");
+
+    assertEquals("1", cache.get("one"));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test
+  public void testGet_copiesValues() {
+    final MarvelMemoryCache<String, List<String>> copyingCache =
+        new MarvelMemoryCache<>(TEST_MAX_ENTRIES, TEST_TTL, ArrayList::new);
+    final List<String> value = new ArrayList<>(List.of("1"));
+
+    copyingCache.put("one", value);
+    value.add("2");
+    copyingCache.get("one").add("3");
+
+    assertEquals(List.of("1"), copyingCache.get("one"));
+  }
+
+  @Test
+  public void testGet_expired() {
+    cache.configure(TEST_MAX_ENTRIES, Duration.ZERO);
+    cache.put("one", "1");
+
+    assertNull(cache.get("one"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testPut_evictsLeastRecentlyUsed() {
+    cache.put("one", "1");
+    cache.put("two", "2");
+    cache.get("one");
+    cache.put("three", "3");
+
+    assertEquals(TEST_MAX_ENTRIES, cache.size());
+    assertEquals("1", cache.get("one"));
+    assertNull(cache.get("two"));
+    assertEquals("3", cache.get("three"));
+  }
+
+  @Test
+  public void testPut_nullValue() {
+    cache.put("one", null);
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testConfigure_shrinks() {
+    cache.put("one", "1");
+    cache.put("two", "2");
+
+    cache.configure(1, TEST_TTL);
+
+    assertEquals(1, cache.size());
+    assertEquals("2", cache.get("two"));
+  }
+
+  @Test
+  public void testConfigure_disabled() {
+    cache.configure(0, TEST_TTL);
+    cache.put("one", "1");
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testClear() {
+    cache.put("one", "1");
+
+    cache.clear();
+
+    assertEquals(0, cache.size());
+  }
+}
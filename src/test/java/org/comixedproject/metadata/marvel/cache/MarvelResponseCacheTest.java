@@ -0,0 +1,154 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelResponseCacheTest {
+  private static final String TEST_PATH = "series/2069/comics";
+  private static final String TEST_KEY = MarvelResponseCache.createKey(TEST_PATH, "limit=100");
+  private static final String TEST_OTHER_KEY = MarvelResponseCache.createKey(TEST_PATH, "limit=20");
+  private static final String TEST_THIRD_KEY = MarvelResponseCache.createKey(TEST_PATH, "limit=10");
+  private static final Duration TEST_TTL = Duration.ofMinutes(5);
+  private static final int TEST_MAX_ENTRIES = 2;
+
+  @Rule public TemporaryFolder cacheDirectory = new TemporaryFolder();
+
+  private MarvelResponseCache cache;
+  private final Map<String, String> response = Map.of("etag", "abc123");
+
+  @Before
+  public void setUp() {
+    cache = new MarvelResponseCache(cacheDirectory.getRoot().toPath(), TEST_TTL, TEST_MAX_ENTRIES);
+  }
+
+  @Test
+  public void testCreateKey() {
+    assertEquals(
+        MarvelResponseCache.createKey(TEST_PATH, "noVariants=true&limit=100&offset=0"),
+        MarvelResponseCache.createKey(
+            TEST_PATH, "offset=0&noVariants=true&limit=100&ts=12345&apikey=public.key&hash=abc"));
+  }
+
+  @Test
+  public void testCreateKey_differentPaths() {
+    assertNotEquals(
+        MarvelResponseCache.createKey("comics/1", "limit=100"),
+        MarvelResponseCache.createKey("comics/2", "limit=100"));
+  }
+
+  @Test
+  public void testLoad_notCached() {
+    assertNull(cache.load(TEST_KEY, Map.class));
+  }
+
+  @Test
+  public void testStoreAndLoad() {
+    cache.store(TEST_KEY, response);
+
+    final Map<?, ?> result = cache.load(TEST_KEY, Map.class);
+
+    assertNotNull(result);
+    assertEquals(response, result);
+  }
+
+  @Test
+  public void testLoad_expired() {
+    cache.store(TEST_KEY, response);
+    this.doAgeEntries(TEST_TTL.toMillis() + 1000L);
+
+    assertNull(cache.load(TEST_KEY, Map.class));
+  }
+
+  @Test
+  public void testLoadExpired() {
+    cache.store(TEST_KEY, response);
+    this.doAgeEntries(TEST_TTL.toMillis() + 1000L);
+
+    assertEquals(response, cache.loadExpired(TEST_KEY, Map.class));
+  }
+
+  @Test
+  public void testLoadExpired_notCached() {
+    assertNull(cache.loadExpired(TEST_KEY, Map.class));
+  }
+
+  @Test
+  public void testRefresh() {
+    cache.store(TEST_KEY, response);
+    this.doAgeEntries(TEST_TTL.toMillis() + 1000L);
+
+    cache.refresh(TEST_KEY);
+
+    assertEquals(response, cache.load(TEST_KEY, Map.class));
+  }
+
+  @Test
+  public void testStore_evictsOldestEntries() {
+    cache.store(TEST_KEY, response);
+    this.doAgeEntries(60000L);
+    cache.store(TEST_OTHER_KEY, response);
+    cache.store(TEST_THIRD_KEY, response);
+
+    assertEquals(TEST_MAX_ENTRIES, this.doListEntries().length);
+    assertNull(cache.load(TEST_KEY, Map.class));
+    assertNotNull(cache.load(TEST_OTHER_KEY, Map.class));
+    assertNotNull(cache.load(TEST_THIRD_KEY, Map.class));
+  }
+
+  @Test
+  public void testStore_serializationFails() {
+    cache.store(TEST_KEY, new Object());
+
+    assertNull(cache.load(TEST_KEY, Map.class));
+    assertEquals(0, cacheDirectory.getRoot().listFiles().length);
+  }
+
+  @Test
+  public void testStore_replacesEntry() {
+    cache.store(TEST_KEY, response);
+    cache.store(TEST_KEY, Map.of("etag", "def456"));
+
+    assertEquals(1, this.doListEntries().length);
+    assertEquals("def456", cache.load(TEST_KEY, Map.class).get("etag"));
+  }
+
+  private void doAgeEntries(final long age) {
+    for (File entry : this.doListEntries()) {
+      assertTrue(entry.setLastModified(System.currentTimeMillis() - age));
+    }
+  }
+
+  private File[] doListEntries() {
+    return cacheDirectory
+        .getRoot()
+        .listFiles((dir, name) -> name.endsWith(MarvelResponseCache.ENTRY_EXTENSION));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.cache;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.List;
+import org.comixedproject.metadata.model.IssueDetailsMetadata;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelSeriesStoreTest {
+  private static final int TEST_MAX_SERIES = 2;
+  private static final Duration TEST_TTL = Duration.ofMinutes(5);
+
+  private MarvelSeriesStore store;
+
+  @Before
+  public void setUp() {
+    store = new MarvelSeriesStore(TEST_MAX_SERIES, TEST_TTL);
+  }
+
+  @Test
+  public void testGet_miss() {
+    assertNull(store.get("101"));
+    assertFalse(store.contains("1"));
+  }
+
+  @Test
+  public void testGet_hit() {
+    final IssueDetailsMetadata issue = createIssue("101");
+    store.put("1", List.of(issue, createIssue("102")));
+
+    assertTrue(store.contains("1"));
+    assertNotSame(issue, store.get("101"));
+    assertEquals("101", store.get("101").getSourceId());
+    assertEquals("102", store.get("102").getSourceId());
+  }
+
+  @Test
+  public void testGet_changesNotShared() {
+    final IssueDetailsMetadata issue = createIssue("101");
+    store.put("1", List.of(issue));
+    issue.setTitle("Changed");
+    store.get("101").getCharacters().add("Changed");
+
+    assertNull(store.get("101").getTitle());
+    assertTrue(store.get("101").getCharacters().isEmpty());
+  }
+
+  @Test
+  public void testGet_expired() {
+    store.configure(TEST_MAX_SERIES, Duration.ZERO);
+    store.put("1", List.of(createIssue("101")));
+
+    assertNull(store.get("101"));
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  public void testPut_replacesSeries() {
+    store.put("1", List.of(createIssue("101"), createIssue("102")));
+    store.put("1", List.of(createIssue("101")));
+
+    assertNotNull(store.get("101"));
+    assertNull(store.get("102"));
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  public void testPut_evictsLeastRecentlyUsed() {
+    store.put("1", List.of(createIssue("101")));
+    store.put("2", List.of(createIssue("201")));
+    store.get("101");
+    store.put("3", List.of(createIssue("301")));
+
+    assertEquals(TEST_MAX_SERIES, store.size());
+    assertNotNull(store.get("101"));
+    assertNull(store.get("201"));
+    assertNotNull(store.get("301"));
+  }
+
+  @Test
+  public void testPut_disabled() {
+    store.configure(0, TEST_TTL);
+    store.put("1", List.of(createIssue("101")));
+
+    assertNull(store.get("101"));
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  public void testClear() {
+    store.put("1", List.of(createIssue("101")));
+    store.clear();
+
+    assertNull(store.get("101"));
+    assertEquals(0, store.size());
+  }
+
+  private IssueDetailsMetadata createIssue(final String issueId) {
+    final IssueDetailsMetadata result = new IssueDetailsMetadata();
+    result.setSourceId(issueId);
+    return result;
+  }
+}
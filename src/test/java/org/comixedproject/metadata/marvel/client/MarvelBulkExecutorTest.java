@@ -0,0 +1,133 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelBulkExecutorTest {
+  private static final int TEST_MAX_IN_FLIGHT = 2;
+  private static final int TEST_TASK_COUNT = 8;
+  private static final String TEST_RESULT = "The result";
+
+  private MarvelBulkExecutor executor;
+
+  @Before
+  public void setUp() {
+    executor = new MarvelBulkExecutor(true, TEST_MAX_IN_FLIGHT);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testVirtualThreadsWhenSupported() {
+    assertEquals(MarvelBulkExecutor.isVirtualThreadsSupported(), executor.isVirtual());
+    assertTrue(executor.isVirtualThreadsRequested());
+  }
+
+  @Test
+  public void testPlatformThreads() {
+    final MarvelBulkExecutor platform = new MarvelBulkExecutor(false, TEST_MAX_IN_FLIGHT);
+
+    assertFalse(platform.isVirtual());
+
+    platform.shutdown();
+  }
+
+  @Test
+  public void testSubmit() throws Exception {
+    final CompletableFuture<String> result = executor.submit(() -> TEST_RESULT);
+
+    assertEquals(TEST_RESULT, result.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testSubmitFailure() {
+    final CompletableFuture<String> result =
+        executor.submit(
+            () -> {
+              throw new IllegalStateException("failed");
+            });
+
+    final ExecutionException error = assertThrows(ExecutionException.class, result::get);
+    assertTrue(error.getCause() instanceof IllegalStateException);
+  }
+
+  @Test
+  public void testSubmitAfterShutdown() {
+    executor.shutdown();
+
+    final CompletableFuture<String> result = executor.submit(() -> TEST_RESULT);
+
+    final ExecutionException error = assertThrows(ExecutionException.class, result::get);
+    assertTrue(error.getCause() instanceof RejectedExecutionException);
+  }
+
+  @Test
+  public void testInFlightIsCapped() throws Exception {
+    final CountDownLatch started = new CountDownLatch(TEST_MAX_IN_FLIGHT);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger starts = new AtomicInteger();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+    final List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+    for (int index = 0; index < TEST_TASK_COUNT; index++) {
+      results.add(
+          executor.submit(
+              () -> {
+                starts.incrementAndGet();
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                running.decrementAndGet();
+                return 1;
+              }));
+    }
+
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertEquals(TEST_MAX_IN_FLIGHT, executor.getInFlight());
+    assertEquals(TEST_MAX_IN_FLIGHT, starts.get());
+    release.countDown();
+
+    for (CompletableFuture<Integer> result : results) {
+      assertEquals(Integer.valueOf(1), result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(TEST_TASK_COUNT, starts.get());
+    assertEquals(TEST_MAX_IN_FLIGHT, peak.get());
+    assertEquals(0, executor.getInFlight());
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelMetricsTest {
+  private static final String TEST_ENDPOINT = "comics/{id}";
+  private static final String TEST_ACTION = "MarvelMetricsTest";
+
+  private SimpleMeterRegistry meterRegistry;
+  private MarvelMetrics metrics;
+
+  @Before
+  public void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = MarvelMetrics.create(meterRegistry, MarvelMetricsTest.class);
+  }
+
+  @Test
+  public void testGetEndpoint() {
+    assertEquals("series", MarvelMetrics.getEndpoint("series"));
+    assertEquals("comics/{id}", MarvelMetrics.getEndpoint("comics/10864"));
+    assertEquals("series/{id}/comics", MarvelMetrics.getEndpoint("series/2069/comics"));
+  }
+
+  @Test
+  public void testDisabled() {
+    final MarvelMetrics disabled = MarvelMetrics.create(null, MarvelMetricsTest.class);
+    final Function<String, Integer> mapper = String::length;
+
+    assertSame(MarvelMetrics.NOOP, disabled);
+    assertFalse(disabled.isEnabled());
+    assertSame(mapper, disabled.timeMapping(mapper));
+    disabled.recordDecode(TEST_ENDPOINT, 1000L);
+    disabled.recordRequest(TEST_ENDPOINT, "200", disabled.start());
+    disabled.recordRetry(TEST_ENDPOINT);
+  }
+
+  @Test
+  public void testEnabled() {
+    assertTrue(metrics.isEnabled());
+    assertSame(meterRegistry, metrics.getRegistry());
+    assertEquals(TEST_ACTION, metrics.getAction());
+  }
+
+  @Test
+  public void testRecordRequest() {
+    metrics.recordRequest(TEST_ENDPOINT, "200", metrics.start());
+
+    assertEquals(
+        1,
+        meterRegistry
+            .get(MarvelMetrics.REQUESTS)
+            .tags("action", TEST_ACTION, "endpoint", TEST_ENDPOINT, "status", "200")
+            .timer()
+            .count());
+  }
+
+  @Test
+  public void testRecordDecode() {
+    metrics.recordDecode(TEST_ENDPOINT, 1000L);
+
+    assertEquals(
+        1, meterRegistry.get(MarvelMetrics.DECODE).tag("endpoint", TEST_ENDPOINT).timer().count());
+    assertEquals(
+        1000.0,
+        meterRegistry.get(MarvelMetrics.DECODE).timer().totalTime(TimeUnit.NANOSECONDS),
+        0.0);
+  }
+
+  @Test
+  public void testTimeMapping() {
+    final Function<String, Integer> mapper = metrics.timeMapping(String::length);
+
+    assertEquals(Integer.valueOf(5), mapper.apply("value"));
+    assertEquals(Integer.valueOf(4), mapper.apply("more"));
+
+    assertEquals(
+        2, meterRegistry.get(MarvelMetrics.MAPPING).tag("action", TEST_ACTION).timer().count());
+  }
+
+  @Test
+  public void testRecordPageDetails() {
+    metrics.recordPages(3);
+    metrics.recordPageRecords(TEST_ENDPOINT, 100);
+    metrics.recordResponseBytes(TEST_ENDPOINT, 2048L);
+
+    assertEquals(3.0, meterRegistry.get(MarvelMetrics.PAGES).summary().totalAmount(), 0.0);
+    assertEquals(100.0, meterRegistry.get(MarvelMetrics.PAGE_RECORDS).summary().totalAmount(), 0.0);
+    assertEquals(
+        2048.0, meterRegistry.get(MarvelMetrics.RESPONSE_BYTES).summary().totalAmount(), 0.0);
+  }
+
+  @Test
+  public void testRecordCounters() {
+    metrics.recordRetry(TEST_ENDPOINT);
+    metrics.recordThrottled(TEST_ENDPOINT);
+    metrics.recordCache(TEST_ENDPOINT, MarvelMetrics.CACHE_HIT);
+    metrics.recordCache(TEST_ENDPOINT, MarvelMetrics.CACHE_HIT);
+
+    assertEquals(1.0, meterRegistry.get(MarvelMetrics.RETRIES).counter().count(), 0.0);
+    assertEquals(1.0, meterRegistry.get(MarvelMetrics.THROTTLED).counter().count(), 0.0);
+    assertEquals(
+        2.0,
+        meterRegistry
+            .get(MarvelMetrics.CACHE)
+            .tag("result", MarvelMetrics.CACHE_HIT)
+            .counter()
+            .count(),
+        0.0);
+  }
+}
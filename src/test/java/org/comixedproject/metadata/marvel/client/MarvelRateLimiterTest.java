@@ -0,0 +1,148 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.comixedproject.metadata.MetadataException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.Exceptions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelRateLimiterTest {
+  private static final int TEST_REQUESTS_PER_SECOND = 2;
+  private static final int TEST_REQUESTS_PER_DAY = 3;
+  private static final Instant TEST_TODAY = Instant.parse("2024-03-15T23:59:00Z");
+  private static final Instant TEST_TOMORROW = Instant.parse("2024-03-16T00:01:00Z");
+
+  @Mock private Clock clock;
+
+  private MarvelRateLimiter rateLimiter;
+
+  @Before
+  public void setUp() {
+    Mockito.when(clock.withZone(ZoneOffset.UTC)).thenReturn(clock);
+    Mockito.when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    Mockito.when(clock.instant()).thenReturn(TEST_TODAY);
+
+    rateLimiter = new MarvelRateLimiter(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY, clock);
+  }
+
+  @Test
+  public void testReserveWithinBurst() throws MetadataException {
+    assertEquals(0L, rateLimiter.reserve());
+    assertEquals(0L, rateLimiter.reserve());
+  }
+
+  @Test
+  public void testReserveBeyondBurstIsDelayed() throws MetadataException {
+    rateLimiter.reserve();
+    rateLimiter.reserve();
+
+    final long result = rateLimiter.reserve();
+
+    assertTrue(result > 0L);
+    assertTrue(result <= 500_000_000L);
+  }
+
+  @Test
+  public void testRemainingQuota() throws MetadataException {
+    rateLimiter.reserve();
+
+    assertEquals(TEST_REQUESTS_PER_DAY - 1, rateLimiter.getRemainingQuota());
+  }
+
+  @Test(expected = MetadataException.class)
+  public void testReserveQuotaExhausted() throws MetadataException {
+    for (int index = 0; index <= TEST_REQUESTS_PER_DAY; index++) {
+      rateLimiter.reserve();
+    }
+  }
+
+  @Test
+  public void testExhaust() {
+    rateLimiter.exhaust();
+
+    assertEquals(0, rateLimiter.getRemainingQuota());
+  }
+
+  @Test
+  public void testQuotaResetsAtMidnight() {
+    rateLimiter.exhaust();
+
+    Mockito.when(clock.instant()).thenReturn(TEST_TOMORROW);
+
+    assertEquals(TEST_REQUESTS_PER_DAY, rateLimiter.getRemainingQuota());
+  }
+
+  @Test
+  public void testConfigureKeepsUsage() throws MetadataException {
+    rateLimiter.reserve();
+
+    rateLimiter.configure(TEST_REQUESTS_PER_SECOND, TEST_REQUESTS_PER_DAY + 10);
+
+    assertEquals(TEST_REQUESTS_PER_DAY + 9, rateLimiter.getRemainingQuota());
+  }
+
+  @Test
+  public void testUnlimitedPerSecondIsNotDelayed() throws MetadataException {
+    rateLimiter.configure(MarvelRateLimiter.UNLIMITED, TEST_REQUESTS_PER_DAY);
+
+    assertEquals(0L, rateLimiter.reserve());
+    assertEquals(0L, rateLimiter.reserve());
+    assertEquals(0L, rateLimiter.reserve());
+  }
+
+  @Test
+  public void testUnlimitedPerDayHasNoQuota() throws MetadataException {
+    rateLimiter.configure(TEST_REQUESTS_PER_SECOND, MarvelRateLimiter.UNLIMITED);
+
+    for (int index = 0; index <= TEST_REQUESTS_PER_DAY; index++) {
+      rateLimiter.reserve();
+    }
+
+    assertEquals(Integer.MAX_VALUE, rateLimiter.getRemainingQuota());
+  }
+
+  @Test(expected = MetadataException.class)
+  public void testUnlimitedPerDayExhausted() throws MetadataException {
+    rateLimiter.configure(TEST_REQUESTS_PER_SECOND, MarvelRateLimiter.UNLIMITED);
+    rateLimiter.exhaust();
+
+    rateLimiter.reserve();
+  }
+
+  @Test
+  public void testAcquireQuotaExhausted() {
+    rateLimiter.exhaust();
+
+    final Throwable error =
+        assertThrows(RuntimeException.class, () -> rateLimiter.acquire().block());
+
+    assertTrue(Exceptions.unwrap(error) instanceof MetadataException);
+  }
+}
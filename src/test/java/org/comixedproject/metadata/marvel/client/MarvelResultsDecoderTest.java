@@ -0,0 +1,123 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.comixedproject.metadata.marvel.models.MarvelSeriesIssueDetailRecord;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelResultsDecoderTest {
+  private static final String TEST_BODY =
+      "{\"code\":200,\"etag\":\"abc\",\"data\":{\"offset\":0,\"limit\":100,\"total\":250,"
+          + "\"count\":2,\"results\":["
+          + "{\"id\":1,\"title\":\"First\",\"series\":{\"name\":\"Series {1}\"},"
+          + "\"creators\":{\"items\":[{\"name\":\"Writer\",\"role\":\"writer\"}]},"
+          + "\"unknown\":[1,2,{\"nested\":true}]},"
+          + "{\"id\":2,\"title\":\"Second\",\"series\":{\"name\":\"Series [2]\"}}"
+          + "]}}";
+  private static final int TEST_CHUNK_SIZE = 7;
+
+  private final MarvelResultsDecoder decoder = MarvelResultsDecoder.getInstance();
+
+  @Test
+  public void testDecode() {
+    final AtomicInteger total = new AtomicInteger();
+
+    final List<MarvelSeriesIssueDetailRecord> result =
+        decoder
+            .decode(createBody(TEST_BODY), MarvelSeriesIssueDetailRecord.class, total::set)
+            .collectList()
+            .block();
+
+    assertNotNull(result);
+    assertEquals(2, result.size());
+    assertEquals("1", result.get(0).getId());
+    assertEquals("First", result.get(0).getTitle());
+    assertEquals("Series {1}", result.get(0).getSeries().getName());
+    assertEquals(1, result.get(0).getCreators().getItems().size());
+    assertEquals("2", result.get(1).getId());
+    assertEquals(250, total.get());
+  }
+
+  @Test
+  public void testRecordEmittedBeforeBodyComplete() {
+    final Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+    final List<MarvelSeriesIssueDetailRecord> received = new ArrayList<>();
+    decoder
+        .decode(body.asFlux(), MarvelSeriesIssueDetailRecord.class, count -> {})
+        .subscribe(received::add);
+
+    final int split = TEST_BODY.indexOf("{\"id\":2");
+    body.tryEmitNext(createBuffer(TEST_BODY.substring(0, split)));
+
+    assertEquals(1, received.size());
+
+    body.tryEmitNext(createBuffer(TEST_BODY.substring(split)));
+    body.tryEmitComplete();
+
+    assertEquals(2, received.size());
+  }
+
+  @Test
+  public void testDecodeIncompleteBody() {
+    final Flux<MarvelSeriesIssueDetailRecord> result =
+        decoder.decode(
+            createBody(TEST_BODY.substring(0, TEST_BODY.length() - 3)),
+            MarvelSeriesIssueDetailRecord.class,
+            count -> {});
+
+    assertThrows(DecodingException.class, result::blockLast);
+  }
+
+  @Test
+  public void testDecodeInvalidBody() {
+    final Flux<MarvelSeriesIssueDetailRecord> result =
+        decoder.decode(
+            createBody("This is not good data"), MarvelSeriesIssueDetailRecord.class, count -> {});
+
+    assertThrows(DecodingException.class, result::blockLast);
+  }
+
+  private Flux<DataBuffer> createBody(final String content) {
+    final List<DataBuffer> buffers = new ArrayList<>();
+    for (int index = 0; index < content.length(); index += TEST_CHUNK_SIZE) {
+      buffers.add(
+          createBuffer(
+              content.substring(index, Math.min(content.length(), index + TEST_CHUNK_SIZE))));
+    }
+    return Flux.fromIterable(buffers);
+  }
+
+  private DataBuffer createBuffer(final String content) {
+    return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
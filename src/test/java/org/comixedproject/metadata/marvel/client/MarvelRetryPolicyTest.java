@@ -0,0 +1,113 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelRetryPolicyTest {
+  private static final int TEST_MAX_RETRIES = 3;
+  private static final int TEST_BACKOFF = 100;
+  private static final int TEST_MAX_BACKOFF = 1000;
+
+  private final MarvelRetryPolicy policy =
+      new MarvelRetryPolicy(TEST_MAX_RETRIES, TEST_BACKOFF, TEST_MAX_BACKOFF);
+
+  @Test
+  public void testServerErrorIsRetried() {
+    final Duration result = policy.getDelay(createResponseException(502, null), 0);
+
+    assertNotNull(result);
+    assertTrue(result.toMillis() >= TEST_BACKOFF / 2);
+    assertTrue(result.toMillis() <= TEST_BACKOFF);
+  }
+
+  @Test
+  public void testBackoffIsBounded() {
+    for (int attempt = 0; attempt < 40; attempt++) {
+      final Duration result = policy.getDelay(createResponseException(503, null), attempt);
+
+      assertTrue(result.toMillis() <= TEST_MAX_BACKOFF);
+    }
+  }
+
+  @Test
+  public void testClientErrorIsNotRetried() {
+    assertNull(policy.getDelay(createResponseException(404, null), 0));
+  }
+
+  @Test
+  public void testTooManyRequestsWithRetryAfter() {
+    assertEquals(Duration.ofSeconds(1), policy.getDelay(createResponseException(429, "1"), 0));
+  }
+
+  @Test
+  public void testTooManyRequestsWithLongRetryAfter() {
+    assertNull(policy.getDelay(createResponseException(429, "60"), 0));
+  }
+
+  @Test
+  public void testTooManyRequestsWithoutRetryAfter() {
+    final Duration result = policy.getDelay(createResponseException(429, null), 0);
+
+    assertNotNull(result);
+    assertTrue(result.toMillis() >= TEST_BACKOFF / 2);
+    assertTrue(result.toMillis() <= TEST_BACKOFF);
+  }
+
+  @Test
+  public void testRequestErrorIsRetried() {
+    assertNotNull(
+        policy.getDelay(
+            new WebClientRequestException(
+                new IOException("connection reset"),
+                HttpMethod.GET,
+                URI.create("http://localhost"),
+                new HttpHeaders()),
+            0));
+  }
+
+  @Test
+  public void testDecodingErrorIsNotRetried() {
+    assertNull(policy.getDelay(new DecodingException("bad data", new IOException("bad data")), 0));
+  }
+
+  private WebClientResponseException createResponseException(
+      final int status, final String retryAfter) {
+    final HttpHeaders headers = new HttpHeaders();
+    if (retryAfter != null) {
+      headers.add(HttpHeaders.RETRY_AFTER, retryAfter);
+    }
+    return WebClientResponseException.create(
+        status, "status", headers, new byte[0], StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import org.comixedproject.metadata.marvel.auth.MarvelRequestSigner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelUrlBuilderTest {
+  private static final String TEST_BASE_URL = "https://gateway.marvel.com";
+  private static final String TEST_PATH = "series";
+  private static final String TEST_PATH_TEMPLATE = "series/%s/comics";
+  private static final String TEST_SERIES_ID = "2069";
+  private static final String TEST_PUBLIC_KEY = "public.key";
+  private static final long TEST_TIMESTAMP = 1704164645000L;
+  private static final String TEST_HASH = "0123456789abcdef0123456789abcdef";
+
+  private MarvelUrlBuilder builder;
+  private MarvelRequestSigner.Signature signature;
+
+  @Before
+  public void setUp() {
+    builder = new MarvelUrlBuilder(TEST_PATH);
+    signature = new MarvelRequestSigner.Signature(TEST_TIMESTAMP, TEST_HASH);
+  }
+
+  @Test
+  public void testBuild() {
+    assertEquals(
+        "https://gateway.marvel.com/v1/public/series?titleStartsWith=Spider-Man&ts=1704164645000"
+            + "&apikey=public.key&hash=0123456789abcdef0123456789abcdef",
+        builder.build(
+            TEST_BASE_URL,
+            builder.path(),
+            "titleStartsWith=Spider-Man",
+            TEST_PUBLIC_KEY,
+            signature));
+  }
+
+  @Test
+  public void testBuild_noParameters() {
+    assertEquals(
+        "https://gateway.marvel.com/v1/public/series?ts=1704164645000&apikey=public.key"
+            + "&hash=0123456789abcdef0123456789abcdef",
+        builder.build(TEST_BASE_URL, builder.path(), "", TEST_PUBLIC_KEY, signature));
+  }
+
+  @Test
+  public void testPath() {
+    assertEquals(TEST_PATH, builder.path());
+  }
+
+  @Test
+  public void testPath_withIds() {
+    assertEquals(
+        "series/2069/comics", new MarvelUrlBuilder(TEST_PATH_TEMPLATE).path(TEST_SERIES_ID));
+  }
+
+  @Test
+  public void testPath_idsAreEncoded() {
+    assertEquals(
+        "series/20%2F69%20x/comics", new MarvelUrlBuilder(TEST_PATH_TEMPLATE).path("20/69 x"));
+  }
+
+  @Test
+  public void testParameters() {
+    assertEquals(
+        "titleStartsWith=Cloak%20%26%20Dagger&orderBy=title&offset=100&limit=50",
+        MarvelUrlBuilder.parameters()
+            .add("titleStartsWith", "Cloak & Dagger")
+            .add("orderBy", "title")
+            .page(100, 50)
+            .build());
+  }
+
+  @Test
+  public void testParameters_extended() {
+    assertEquals(
+        "noVariants=true&offset=0&limit=100",
+        MarvelUrlBuilder.parameters("noVariants=true").page(0, 100).build());
+    assertEquals("offset=0&limit=100", MarvelUrlBuilder.parameters("").page(0, 100).build());
+  }
+
+  @Test
+  public void testEncode() {
+    assertEquals("X-Men%3A%20100%25%20%2B%201", MarvelUrlBuilder.encode("X-Men: 100% + 1"));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelWebClientPoolTest {
+  private static final int TEST_CONNECT_TIMEOUT = 5000;
+  private static final int TEST_READ_TIMEOUT = 15000;
+  private static final int TEST_MAX_CONNECTIONS = 4;
+
+  private MarvelWebClientSettings settings;
+  private MarvelWebClientPool pool;
+
+  @Before
+  public void setUp() {
+    settings =
+        new MarvelWebClientSettings(TEST_CONNECT_TIMEOUT, TEST_READ_TIMEOUT, TEST_MAX_CONNECTIONS);
+    pool = new MarvelWebClientPool(settings);
+  }
+
+  @After
+  public void tearDown() {
+    pool.dispose();
+  }
+
+  @Test
+  public void testCreate() {
+    assertNotNull(pool.getWebClient());
+    assertSame(settings, pool.getSettings());
+  }
+
+  @Test
+  public void testRetire_notInUse() {
+    pool.retire();
+
+    assertTrue(pool.isDisposed());
+  }
+
+  @Test
+  public void testRetire_inUse() {
+    pool.acquire();
+    pool.acquire();
+
+    pool.retire();
+    assertFalse(pool.isDisposed());
+
+    pool.release();
+    assertFalse(pool.isDisposed());
+
+    pool.release();
+    assertTrue(pool.isDisposed());
+  }
+
+  @Test
+  public void testRelease_notRetired() {
+    pool.acquire();
+    pool.release();
+
+    assertFalse(pool.isDisposed());
+  }
+
+  @Test
+  public void testSettingsEquality() {
+    assertEquals(
+        settings,
+        new MarvelWebClientSettings(TEST_CONNECT_TIMEOUT, TEST_READ_TIMEOUT, TEST_MAX_CONNECTIONS));
+    assertNotEquals(
+        settings,
+        new MarvelWebClientSettings(
+            TEST_CONNECT_TIMEOUT, TEST_READ_TIMEOUT, TEST_MAX_CONNECTIONS + 1));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * <code>RecordingMarvelTracer</code> is a {@link MarvelTracer} that keeps every span it starts so
+ * that tests can verify them.
+ *
+ * @author Darryl L. Pierce
+ */
+public class RecordingMarvelTracer implements MarvelTracer {
+  @Getter private final List<RecordedSpan> spans = Collections.synchronizedList(new ArrayList<>());
+
+  @Override
+  public Span startSpan(final String name, final Span parent) {
+    final RecordedSpan result = new RecordedSpan(name, parent);
+    this.spans.add(result);
+    return result;
+  }
+
+  /**
+   * Returns the spans with the given name, in the order they were started.
+   *
+   * @param name the span name
+   * @return the spans
+   */
+  public List<RecordedSpan> getSpans(final String name) {
+    synchronized (this.spans) {
+      return this.spans.stream()
+          .filter(span -> span.getName().equals(name))
+          .collect(Collectors.toList());
+    }
+  }
+
+  /** <code>RecordedSpan</code> holds the details for a single span. */
+  public static class RecordedSpan implements Span {
+    @Getter private final String name;
+    @Getter private final Span parent;
+    @Getter private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    @Getter private volatile Throwable error;
+    @Getter private volatile int endCount;
+
+    RecordedSpan(final String name, final Span parent) {
+      this.name = name;
+      this.parent = parent;
+    }
+
+    @Override
+    public void setAttribute(final String name, final String value) {
+      this.attributes.put(name, value);
+    }
+
+    @Override
+    public void setAttribute(final String name, final long value) {
+      this.attributes.put(name, value);
+    }
+
+    @Override
+    public void setError(final Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public synchronized void end() {
+      this.endCount++;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2024, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.metadata.marvel.models;
+
+import static org.junit.Assert.*;
+
+import org.comixedproject.model.comicbooks.ComicTagType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarvelCreditTypeTest {
+  @Test
+  public void testForValue() {
+    for (MarvelCreditType type : MarvelCreditType.values()) {
+      assertSame(type, MarvelCreditType.forValue(type.getTagValue()));
+    }
+  }
+
+  @Test
+  public void testForValue_alternateSpelling() {
+    assertSame(MarvelCreditType.PENCILLER, MarvelCreditType.forValue("penciller"));
+    assertSame(MarvelCreditType.PENCILLER, MarvelCreditType.forValue("painter"));
+  }
+
+  @Test
+  public void testForValue_ignoresCase() {
+    assertSame(MarvelCreditType.WRITER, MarvelCreditType.forValue(" Writer "));
+    assertSame(MarvelCreditType.COVER, MarvelCreditType.forValue("Penciller (Cover)"));
+  }
+
+  @Test
+  public void testForValue_cover() {
+    assertSame(MarvelCreditType.COVER, MarvelCreditType.forValue("penciller (cover)"));
+    assertSame(MarvelCreditType.COVER, MarvelCreditType.forValue("painter (cover)"));
+    assertSame(MarvelCreditType.COVER, MarvelCreditType.forValue("inker (cover)"));
+    assertEquals(ComicTagType.COVER, MarvelCreditType.forValue("colorist (cover)").getTagType());
+  }
+
+  @Test
+  public void testForValue_otherQualifier() {
+    assertSame(MarvelCreditType.WRITER, MarvelCreditType.forValue("writer (variant)"));
+    assertSame(MarvelCreditType.INKER, MarvelCreditType.forValue("inker (back-up)"));
+  }
+
+  @Test
+  public void testForValue_unknown() {
+    assertSame(MarvelCreditType.OTHER, MarvelCreditType.forValue("production"));
+    assertSame(MarvelCreditType.OTHER, MarvelCreditType.forValue("(cover"));
+    assertSame(MarvelCreditType.OTHER, MarvelCreditType.forValue(""));
+    assertSame(MarvelCreditType.OTHER, MarvelCreditType.forValue(null));
+  }
+}